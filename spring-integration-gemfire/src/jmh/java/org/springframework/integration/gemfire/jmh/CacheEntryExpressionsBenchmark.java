@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.gemfire.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.integration.expression.ExpressionUtils;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.GenericMessage;
+
+/**
+ * The per-message evaluation cost of the typical {@code payload.id -> payload} cache entry
+ * expressions of the {@link org.springframework.integration.gemfire.outbound.CacheWritingMessageHandler}
+ * in the interpreted ({@code OFF}) and compiled ({@code IMMEDIATE} and {@code MIXED}) SpEL modes.
+ *
+ * @author agent
+ *
+ * @since 6.5
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheEntryExpressionsBenchmark {
+
+	@Param({ "OFF", "IMMEDIATE", "MIXED" })
+	SpelCompilerMode compilerMode;
+
+	private EvaluationContext evaluationContext;
+
+	private Expression keyExpression;
+
+	private Expression valueExpression;
+
+	private Message<Order> message;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		SpelExpressionParser parser =
+				new SpelExpressionParser(new SpelParserConfiguration(this.compilerMode, getClass().getClassLoader()));
+		this.keyExpression = parser.parseExpression("payload.id");
+		this.valueExpression = parser.parseExpression("payload");
+		this.evaluationContext = ExpressionUtils.createStandardEvaluationContext();
+		this.message = new GenericMessage<>(new Order(42L));
+	}
+
+	@Benchmark
+	public void evaluateCacheEntry(Blackhole blackhole) {
+		blackhole.consume(this.keyExpression.getValue(this.evaluationContext, this.message));
+		blackhole.consume(this.valueExpression.getValue(this.evaluationContext, this.message));
+	}
+
+	public static class Order {
+
+		private final long id;
+
+		public Order(long id) {
+			this.id = id;
+		}
+
+		public long getId() {
+			return this.id;
+		}
+
+	}
+
+}
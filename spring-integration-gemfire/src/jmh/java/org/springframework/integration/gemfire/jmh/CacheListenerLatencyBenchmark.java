@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.gemfire.jmh;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.integration.channel.DirectChannel;
+import org.springframework.integration.gemfire.inbound.CacheListeningMessageProducer;
+
+/**
+ * The latency from a {@code Region.put()} to the message delivered by the
+ * {@link CacheListeningMessageProducer} to its output channel subscriber:
+ * on the GemFire listener thread ({@code false}) or with the off-thread
+ * dispatch to a single thread executor ({@code true}).
+ *
+ * @author agent
+ *
+ * @since 6.5
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheListenerLatencyBenchmark {
+
+	@Param({ "LOCAL", "PARTITION" })
+	RegionShortcut regionShortcut;
+
+	@Param({ "false", "true" })
+	boolean offThreadDispatch;
+
+	private final AtomicLong received = new AtomicLong();
+
+	private Cache cache;
+
+	private Region<Object, Object> region;
+
+	private ExecutorService executor;
+
+	private CacheListeningMessageProducer producer;
+
+	private long sent;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.cache = EmbeddedCacheSupport.createCache();
+		this.region = EmbeddedCacheSupport.createRegion(this.cache, "cacheListening", this.regionShortcut);
+		DirectChannel outputChannel = new DirectChannel();
+		outputChannel.subscribe(message -> this.received.incrementAndGet());
+		this.producer = new CacheListeningMessageProducer(this.region);
+		this.producer.setOutputChannel(outputChannel);
+		if (this.offThreadDispatch) {
+			this.executor = Executors.newSingleThreadExecutor();
+			this.producer.setTaskExecutor(this.executor);
+		}
+		this.producer.setBeanFactory(EmbeddedCacheSupport.BEAN_FACTORY);
+		this.producer.afterPropertiesSet();
+		this.producer.start();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.producer.stop();
+		if (this.executor != null) {
+			this.executor.shutdownNow();
+		}
+		EmbeddedCacheSupport.close(this.cache);
+	}
+
+	@Benchmark
+	public void putToMessage() {
+		long expected = ++this.sent;
+		this.region.put(expected & 1023, expected);
+		while (this.received.get() < expected) {
+			Thread.yield();
+		}
+	}
+
+}
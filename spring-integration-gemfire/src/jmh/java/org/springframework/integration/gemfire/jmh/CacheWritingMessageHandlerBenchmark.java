@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.gemfire.jmh;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.integration.gemfire.outbound.CacheWritingMessageHandler;
+import org.springframework.messaging.support.GenericMessage;
+
+/**
+ * The {@link CacheWritingMessageHandler} throughput per batch (window) size:
+ * {@code 1} is a {@code Region.putAll()} per message, the others accumulate
+ * messages into a single {@code Region.putAll()}.
+ *
+ * @author agent
+ *
+ * @since 6.5
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheWritingMessageHandlerBenchmark {
+
+	private static final int KEY_SPACE = 100_000;
+
+	@Param({ "LOCAL", "PARTITION" })
+	RegionShortcut regionShortcut;
+
+	@Param({ "1", "10", "100", "1000" })
+	int batchSize;
+
+	private Cache cache;
+
+	private CacheWritingMessageHandler handler;
+
+	private int sequence;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.cache = EmbeddedCacheSupport.createCache();
+		Region<Object, Object> region =
+				EmbeddedCacheSupport.createRegion(this.cache, "cacheWriting", this.regionShortcut);
+		this.handler = new CacheWritingMessageHandler(region);
+		this.handler.setCacheEntries(Collections.singletonMap("payload", "'value'"));
+		this.handler.setBatchSize(this.batchSize);
+		this.handler.setBeanFactory(EmbeddedCacheSupport.BEAN_FACTORY);
+		this.handler.afterPropertiesSet();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.handler.destroy();
+		EmbeddedCacheSupport.close(this.cache);
+	}
+
+	@Benchmark
+	public void writeToCache() {
+		this.handler.handleMessage(new GenericMessage<>(this.sequence++ % KEY_SPACE));
+	}
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.gemfire.jmh;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+/**
+ * The in-process peer {@link Cache} and {@link Region} factory for benchmarks.
+ *
+ * @author agent
+ *
+ * @since 6.5
+ */
+final class EmbeddedCacheSupport {
+
+	static final BeanFactory BEAN_FACTORY = new DefaultListableBeanFactory();
+
+	private EmbeddedCacheSupport() {
+	}
+
+	static Cache createCache() {
+		return new CacheFactory()
+				.set("log-level", "warn")
+				.create();
+	}
+
+	static <K, V> Region<K, V> createRegion(Cache cache, String name, RegionShortcut regionShortcut) {
+		return cache.<K, V>createRegionFactory(regionShortcut).create(name);
+	}
+
+	static void close(Cache cache) {
+		if (cache != null && !cache.isClosed()) {
+			cache.close();
+		}
+	}
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.gemfire.jmh;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The entry point to run all the Gemfire module benchmarks with the {@link GCProfiler},
+ * so the allocation rate is reported alongside the timing.
+ * An optional argument is a regexp to select benchmarks.
+ *
+ * @author agent
+ *
+ * @since 6.5
+ */
+public final class GemfireBenchmarks {
+
+	private GemfireBenchmarks() {
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options =
+				new OptionsBuilder()
+						.include(args.length > 0 ? args[0] : GemfireBenchmarks.class.getPackage().getName() + ".*")
+						.addProfiler(GCProfiler.class)
+						.build();
+		new Runner(options).run();
+	}
+
+}
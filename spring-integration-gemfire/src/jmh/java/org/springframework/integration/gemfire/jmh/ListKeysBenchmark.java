@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.gemfire.jmh;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.integration.gemfire.store.GemfireMessageStore;
+import org.springframework.messaging.support.GenericMessage;
+
+/**
+ * The {@link GemfireMessageStore} keys listing (the OQL {@code keySet} query behind
+ * {@code getMessageCount()}) scaling with the region size.
+ * The region is filled through the message store: one in ten messages is added to its own group,
+ * the rest are stored standalone.
+ *
+ * @author agent
+ *
+ * @since 6.5
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListKeysBenchmark {
+
+	@Param({ "LOCAL", "PARTITION" })
+	RegionShortcut regionShortcut;
+
+	@Param({ "1000", "10000", "100000" })
+	int regionSize;
+
+	private Cache cache;
+
+	private KeyListingMessageStore messageStore;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.cache = EmbeddedCacheSupport.createCache();
+		Region<Object, Object> region =
+				EmbeddedCacheSupport.createRegion(this.cache, "messageStore", this.regionShortcut);
+		this.messageStore = new KeyListingMessageStore(region);
+		for (int i = 0; i < this.regionSize; i++) {
+			if (i % 10 == 0) {
+				this.messageStore.addMessagesToGroup("group" + i, new GenericMessage<>(i));
+			}
+			else {
+				this.messageStore.addMessage(new GenericMessage<>(i));
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		EmbeddedCacheSupport.close(this.cache);
+	}
+
+	@Benchmark
+	public long messageCount() {
+		return this.messageStore.getMessageCount();
+	}
+
+	@Benchmark
+	public int listGroupKeys() {
+		return this.messageStore.listGroupKeys().size();
+	}
+
+	/**
+	 * Exposes the group keys listing without loading the groups,
+	 * unlike {@code getMessageGroupCount()}.
+	 */
+	private static final class KeyListingMessageStore extends GemfireMessageStore {
+
+		KeyListingMessageStore(Region<Object, Object> region) {
+			super(region);
+		}
+
+		Collection<?> listGroupKeys() {
+			return doListKeys(getGroupPrefix() + '*');
+		}
+
+	}
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.gemfire.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.integration.gemfire.store.GemfireMessageStore;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+
+/**
+ * The {@link GemfireMessageStore} group operations as performed by an aggregator:
+ * add messages to a group one by one, read the group, complete it and remove it.
+ *
+ * @author agent
+ *
+ * @since 6.5
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageStoreBenchmark {
+
+	@Param({ "LOCAL", "PARTITION" })
+	RegionShortcut regionShortcut;
+
+	@Param({ "10", "100" })
+	int groupSize;
+
+	private Cache cache;
+
+	private GemfireMessageStore messageStore;
+
+	private List<Message<?>> messages;
+
+	private long groupSequence;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.cache = EmbeddedCacheSupport.createCache();
+		Region<Object, Object> region =
+				EmbeddedCacheSupport.createRegion(this.cache, "messageStore", this.regionShortcut);
+		this.messageStore = new GemfireMessageStore(region);
+		this.messages = new ArrayList<>(this.groupSize);
+		for (int i = 0; i < this.groupSize; i++) {
+			this.messages.add(MessageBuilder.withPayload("payload" + i).build());
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		EmbeddedCacheSupport.close(this.cache);
+	}
+
+	@Benchmark
+	public void groupLifecycle(Blackhole blackhole) {
+		String groupId = "group" + this.groupSequence++;
+		for (Message<?> message : this.messages) {
+			blackhole.consume(this.messageStore.addMessagesToGroup(groupId, message));
+		}
+		blackhole.consume(this.messageStore.getMessageGroup(groupId));
+		this.messageStore.completeGroup(groupId);
+		this.messageStore.removeMessageGroup(groupId);
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.gemfire.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.integration.gemfire.metadata.GemfireMetadataStore;
+
+/**
+ * The {@link GemfireMetadataStore} {@code put()} and {@code get()} cost
+ * over a fixed key space.
+ *
+ * @author agent
+ *
+ * @since 6.5
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetadataStoreBenchmark {
+
+	private static final int KEY_SPACE = 1024;
+
+	@Param({ "LOCAL", "PARTITION" })
+	RegionShortcut regionShortcut;
+
+	private final String[] keys = new String[KEY_SPACE];
+
+	private Cache cache;
+
+	private GemfireMetadataStore metadataStore;
+
+	private int sequence;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.cache = EmbeddedCacheSupport.createCache();
+		Region<String, String> region =
+				EmbeddedCacheSupport.createRegion(this.cache, "metadataStore", this.regionShortcut);
+		this.metadataStore = new GemfireMetadataStore(region);
+		for (int i = 0; i < KEY_SPACE; i++) {
+			this.keys[i] = "key" + i;
+			this.metadataStore.put(this.keys[i], "value" + i);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		EmbeddedCacheSupport.close(this.cache);
+	}
+
+	@Benchmark
+	public void put() {
+		int index = this.sequence++ & (KEY_SPACE - 1);
+		this.metadataStore.put(this.keys[index], "value" + index);
+	}
+
+	@Benchmark
+	public String get() {
+		return this.metadataStore.get(this.keys[this.sequence++ & (KEY_SPACE - 1)]);
+	}
+
+}
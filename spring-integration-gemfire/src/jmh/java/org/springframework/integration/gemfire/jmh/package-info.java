@@ -0,0 +1,4 @@
+/**
+ * Provides the JMH benchmarks for the Gemfire module hot paths.
+ */
+package org.springframework.integration.gemfire.jmh;
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -81,6 +81,14 @@ public class GemfireCqInboundChannelAdapterParser extends AbstractChannelAdapter
 
 		IntegrationNamespaceUtils.setValueIfAttributeDefined(continuousQueryMessageProducer, element, QUERY_NAME_ATTRIBUTE);
 		IntegrationNamespaceUtils.setValueIfAttributeDefined(continuousQueryMessageProducer, element, DURABLE_ATTRIBUTE);
+		IntegrationNamespaceUtils.setValueIfAttributeDefined(continuousQueryMessageProducer, element, "batch-size");
+		IntegrationNamespaceUtils.setValueIfAttributeDefined(continuousQueryMessageProducer, element, "batch-timeout");
+		IntegrationNamespaceUtils.setValueIfAttributeDefined(continuousQueryMessageProducer, element,
+				"conflate-by-key");
+		IntegrationNamespaceUtils.setReferenceIfAttributeDefined(continuousQueryMessageProducer, element, "task-executor");
+		IntegrationNamespaceUtils.setValueIfAttributeDefined(continuousQueryMessageProducer, element, "concurrency");
+		IntegrationNamespaceUtils.setValueIfAttributeDefined(continuousQueryMessageProducer, element, "queue-capacity");
+		IntegrationNamespaceUtils.setValueIfAttributeDefined(continuousQueryMessageProducer, element, "overflow-policy");
 		return continuousQueryMessageProducer.getBeanDefinition();
 	}
 
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.gemfire.config.xml;
+
+import org.w3c.dom.Element;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.xml.ParserContext;
+import org.springframework.integration.config.xml.AbstractConsumerEndpointParser;
+import org.springframework.integration.config.xml.IntegrationNamespaceUtils;
+import org.springframework.integration.gemfire.outbound.GemfireFunctionOutboundGateway;
+
+/**
+ * Parser for the {@code <int-gfe:function-outbound-gateway/>}.
+ *
+ * @author agent
+ *
+ * @since 6.5
+ */
+public class GemfireFunctionOutboundGatewayParser extends AbstractConsumerEndpointParser {
+
+	private static final String REGION_ATTRIBUTE = "region";
+
+	private static final String FUNCTION_ATTRIBUTE = "function";
+
+	private static final String FUNCTION_ID_ATTRIBUTE = "function-id";
+
+	@Override
+	protected String getInputChannelAttributeName() {
+		return "request-channel";
+	}
+
+	@Override
+	protected BeanDefinitionBuilder parseHandler(Element element, ParserContext parserContext) {
+		BeanDefinitionBuilder builder =
+				BeanDefinitionBuilder.genericBeanDefinition(GemfireFunctionOutboundGateway.class);
+		if (!element.hasAttribute(REGION_ATTRIBUTE)) {
+			parserContext.getReaderContext().error("'region' attribute is required.", element);
+		}
+		builder.addConstructorArgReference(element.getAttribute(REGION_ATTRIBUTE));
+
+		boolean hasFunction = element.hasAttribute(FUNCTION_ATTRIBUTE);
+		if (hasFunction == element.hasAttribute(FUNCTION_ID_ATTRIBUTE)) {
+			parserContext.getReaderContext()
+					.error("Exactly one of the 'function' or 'function-id' attributes is required.", element);
+		}
+		if (hasFunction) {
+			builder.addConstructorArgReference(element.getAttribute(FUNCTION_ATTRIBUTE));
+		}
+		else {
+			builder.addConstructorArgValue(element.getAttribute(FUNCTION_ID_ATTRIBUTE));
+		}
+
+		BeanDefinition filterExpression =
+				IntegrationNamespaceUtils.createExpressionDefIfAttributeDefined("filter-expression", element);
+		if (filterExpression != null) {
+			builder.addPropertyValue("filterExpression", filterExpression);
+		}
+		BeanDefinition argumentsExpression =
+				IntegrationNamespaceUtils.createExpressionDefIfAttributeDefined("arguments-expression", element);
+		if (argumentsExpression != null) {
+			builder.addPropertyValue("argumentsExpression", argumentsExpression);
+		}
+		IntegrationNamespaceUtils.setValueIfAttributeDefined(builder, element, "result-timeout");
+		IntegrationNamespaceUtils.setValueIfAttributeDefined(builder, element, "streaming");
+		IntegrationNamespaceUtils.setReferenceIfAttributeDefined(builder, element, "reply-channel", "outputChannel");
+		IntegrationNamespaceUtils.setValueIfAttributeDefined(builder, element, "reply-timeout", "sendTimeout");
+		IntegrationNamespaceUtils.setValueIfAttributeDefined(builder, element, "requires-reply");
+		return builder;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -63,6 +63,10 @@ public class GemfireInboundChannelAdapterParser extends AbstractChannelAdapterPa
 		listeningMessageProducer.addPropertyReference(OUTPUT_CHANNEL_PROPERTY, channelName);
 		IntegrationNamespaceUtils.setReferenceIfAttributeDefined(listeningMessageProducer, element,
 				ERROR_CHANNEL_ATTRIBUTE);
+		IntegrationNamespaceUtils.setReferenceIfAttributeDefined(listeningMessageProducer, element, "task-executor");
+		IntegrationNamespaceUtils.setValueIfAttributeDefined(listeningMessageProducer, element, "concurrency");
+		IntegrationNamespaceUtils.setValueIfAttributeDefined(listeningMessageProducer, element, "queue-capacity");
+		IntegrationNamespaceUtils.setValueIfAttributeDefined(listeningMessageProducer, element, "overflow-policy");
 		return listeningMessageProducer.getBeanDefinition();
 	}
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,6 +31,7 @@ public class GemfireIntegrationNamespaceHandler extends AbstractIntegrationNames
 		registerBeanDefinitionParser("inbound-channel-adapter", new GemfireInboundChannelAdapterParser());
 		registerBeanDefinitionParser("cq-inbound-channel-adapter", new GemfireCqInboundChannelAdapterParser());
 		registerBeanDefinitionParser("outbound-channel-adapter", new GemfireOutboundChannelAdapterParser());
+		registerBeanDefinitionParser("function-outbound-gateway", new GemfireFunctionOutboundGatewayParser());
 	}
 
 }
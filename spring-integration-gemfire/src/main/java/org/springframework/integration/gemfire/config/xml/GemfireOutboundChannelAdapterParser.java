@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,7 @@ import org.springframework.beans.factory.support.AbstractBeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
 import org.springframework.beans.factory.xml.ParserContext;
 import org.springframework.integration.config.xml.AbstractOutboundChannelAdapterParser;
+import org.springframework.integration.config.xml.IntegrationNamespaceUtils;
 import org.springframework.integration.gemfire.outbound.CacheWritingMessageHandler;
 import org.springframework.util.xml.DomUtils;
 
@@ -59,6 +60,10 @@ public class GemfireOutboundChannelAdapterParser extends AbstractOutboundChannel
 					.parseMapElement(cacheEntries, cacheWritingMessageHandler.getBeanDefinition());
 			cacheWritingMessageHandler.addPropertyValue(CACHE_ENTRIES_PROPERTY, map);
 		}
+		IntegrationNamespaceUtils.setValueIfAttributeDefined(cacheWritingMessageHandler, element, "batch-size");
+		IntegrationNamespaceUtils.setValueIfAttributeDefined(cacheWritingMessageHandler, element, "batch-timeout");
+		IntegrationNamespaceUtils.setReferenceIfAttributeDefined(cacheWritingMessageHandler, element, "task-executor");
+		IntegrationNamespaceUtils.setReferenceIfAttributeDefined(cacheWritingMessageHandler, element, "error-handler");
 		return cacheWritingMessageHandler.getBeanDefinition();
 	}
 }
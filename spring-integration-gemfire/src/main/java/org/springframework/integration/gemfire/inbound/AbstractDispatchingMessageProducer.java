@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.gemfire.inbound;
+
+import java.util.concurrent.Executor;
+
+import org.springframework.integration.endpoint.ExpressionMessageProducerSupport;
+import org.springframework.messaging.Message;
+import org.springframework.util.Assert;
+
+/**
+ * The base class for the GemFire inbound endpoints which send messages either on the
+ * GemFire listener thread or, when a {@link #setTaskExecutor(Executor) taskExecutor}
+ * is provided, via an {@link OrderedEventDispatcher} in key order.
+ *
+ * @author agent
+ *
+ * @since 6.5
+ */
+public abstract class AbstractDispatchingMessageProducer extends ExpressionMessageProducerSupport {
+
+	private static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+	private Executor taskExecutor;
+
+	private int concurrency = 1;
+
+	private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+	private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+	private volatile OrderedEventDispatcher<Object> dispatcher;
+
+	/**
+	 * Set an {@link Executor} to hand off the message sending to, so slow downstream flows
+	 * don't block the GemFire listener thread.
+	 * The payload expression is still evaluated on the GemFire thread, and the events for the
+	 * same key are sent in order. Not set by default - messages are sent on the GemFire thread.
+	 * @param taskExecutor the executor for the message sending.
+	 */
+	public void setTaskExecutor(Executor taskExecutor) {
+		Assert.notNull(taskExecutor, "'taskExecutor' must not be null");
+		this.taskExecutor = taskExecutor;
+	}
+
+	/**
+	 * Set the number of key-ordered stripes (each with its own queue) to send messages from
+	 * concurrently on the {@link #setTaskExecutor(Executor) taskExecutor}. Defaults to 1.
+	 * @param concurrency the number of stripes.
+	 */
+	public void setConcurrency(int concurrency) {
+		Assert.isTrue(concurrency > 0, "'concurrency' must be greater than 0");
+		this.concurrency = concurrency;
+	}
+
+	/**
+	 * Set the capacity of each stripe queue. Defaults to 1000.
+	 * @param queueCapacity the queue capacity.
+	 */
+	public void setQueueCapacity(int queueCapacity) {
+		Assert.isTrue(queueCapacity > 0, "'queueCapacity' must be greater than 0");
+		this.queueCapacity = queueCapacity;
+	}
+
+	/**
+	 * Set the {@link OverflowPolicy} for events arriving to a full stripe queue.
+	 * Defaults to {@link OverflowPolicy#BLOCK}.
+	 * @param overflowPolicy the overflow policy.
+	 */
+	public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+		Assert.notNull(overflowPolicy, "'overflowPolicy' must not be null");
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	/**
+	 * Return the number of events waiting to be sent, including the spilled ones.
+	 * @return the number of pending events or 0 if no {@link #setTaskExecutor(Executor) taskExecutor}.
+	 */
+	public int getQueueSize() {
+		OrderedEventDispatcher<Object> eventDispatcher = this.dispatcher;
+		return eventDispatcher != null ? eventDispatcher.getQueueSize() : 0;
+	}
+
+	/**
+	 * Return the number of events spilled over the stripe queues with the {@link OverflowPolicy#SPILL}.
+	 * @return the number of spilled events.
+	 */
+	public int getOverflowSize() {
+		OrderedEventDispatcher<Object> eventDispatcher = this.dispatcher;
+		return eventDispatcher != null ? eventDispatcher.getOverflowSize() : 0;
+	}
+
+	/**
+	 * Return the number of events dropped with the {@link OverflowPolicy#DROP}.
+	 * @return the number of dropped events.
+	 */
+	public long getDroppedCount() {
+		OrderedEventDispatcher<Object> eventDispatcher = this.dispatcher;
+		return eventDispatcher != null ? eventDispatcher.getDroppedCount() : 0;
+	}
+
+	@Override
+	protected void onInit() {
+		super.onInit();
+		if (this.taskExecutor != null) {
+			this.dispatcher = new OrderedEventDispatcher<>(this.taskExecutor, this.concurrency, this.queueCapacity,
+					this.overflowPolicy, this::publish);
+		}
+	}
+
+	/**
+	 * Send a message for the payload on the current thread or hand it off to the
+	 * {@link #setTaskExecutor(Executor) taskExecutor} in the order of the key.
+	 * @param key the event key to order by; may be null.
+	 * @param payload the payload or the {@link Message} to send.
+	 */
+	protected void dispatch(Object key, Object payload) {
+		OrderedEventDispatcher<Object> eventDispatcher = this.dispatcher;
+		if (eventDispatcher != null) {
+			eventDispatcher.dispatch(key, payload);
+		}
+		else {
+			publish(payload);
+		}
+	}
+
+	private void publish(Object object) {
+		Message<?> message;
+		if (object instanceof Message) {
+			message = (Message<?>) object;
+		}
+		else {
+			message = getMessageBuilderFactory().withPayload(object).build();
+		}
+		sendMessage(message);
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -28,8 +28,6 @@ import org.apache.geode.cache.EntryEvent;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.util.CacheListenerAdapter;
 
-import org.springframework.integration.endpoint.ExpressionMessageProducerSupport;
-import org.springframework.messaging.Message;
 import org.springframework.util.Assert;
 
 /**
@@ -38,6 +36,10 @@ import org.springframework.util.Assert;
  * enum for all options. A SpEL expression may be provided to generate a Message payload by
  * evaluating that expression against the {@link EntryEvent} instance as the root object. If no
  * payloadExpression is provided, the {@link EntryEvent} itself will be the payload.
+ * <p>
+ * Messages are sent on the GemFire cache listener thread, unless a
+ * {@link #setTaskExecutor(java.util.concurrent.Executor) taskExecutor} is provided to hand off the sending
+ * in key order.
  *
  * @author Mark Fisher
  * @author David Turanski
@@ -45,7 +47,7 @@ import org.springframework.util.Assert;
  * @since 2.1
  */
 @SuppressWarnings({ "rawtypes", "unchecked" })
-public class CacheListeningMessageProducer extends ExpressionMessageProducerSupport {
+public class CacheListeningMessageProducer extends AbstractDispatchingMessageProducer {
 
 	private final Log logger = LogFactory.getLog(this.getClass());
 
@@ -129,20 +131,9 @@ public class CacheListeningMessageProducer extends ExpressionMessageProducerSupp
 		}
 
 		private void processEvent(EntryEvent event) {
-			publish(evaluatePayloadExpression(event));
-
+			dispatch(event.getKey(), evaluatePayloadExpression(event));
 		}
 
-		private void publish(Object object) {
-			Message<?> message = null;
-			if (object instanceof Message) {
-				message = (Message<?>) object;
-			}
-			else {
-				message = getMessageBuilderFactory().withPayload(object).build();
-			}
-			sendMessage(message);
-		}
 	}
 
 }
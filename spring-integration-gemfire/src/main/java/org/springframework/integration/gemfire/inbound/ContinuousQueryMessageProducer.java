@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,9 +16,18 @@
 
 package org.springframework.integration.gemfire.inbound;
 
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -27,8 +36,6 @@ import org.apache.geode.cache.query.CqEvent;
 import org.springframework.data.gemfire.listener.ContinuousQueryDefinition;
 import org.springframework.data.gemfire.listener.ContinuousQueryListener;
 import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
-import org.springframework.integration.endpoint.ExpressionMessageProducerSupport;
-import org.springframework.messaging.Message;
 import org.springframework.util.Assert;
 
 /**
@@ -36,6 +43,16 @@ import org.springframework.util.Assert;
  * constantly evaluated against a cache
  * {@link org.apache.geode.cache.Region}. This is much faster than
  * re-querying the cache manually.
+ * <p>
+ * Messages are sent on the GemFire CQ listener thread, unless a
+ * {@link #setTaskExecutor(java.util.concurrent.Executor) taskExecutor} is provided to hand off the sending
+ * in key order.
+ * <p>
+ * With the {@link #setBatchSize(int) batchSize} greater than 1, the evaluated payloads are
+ * collected and sent as a {@link List} payload when the batch is full or the
+ * {@link #setBatchTimeout(long) batchTimeout} is over. The batch can be conflated by the event key,
+ * so only the latest payload per key is emitted. The batches are emitted one at a time in the order
+ * they have been completed.
  *
  * @author Josh Long
  * @author David Turanski
@@ -43,7 +60,7 @@ import org.springframework.util.Assert;
  * @since 2.1
  *
  */
-public class ContinuousQueryMessageProducer extends ExpressionMessageProducerSupport
+public class ContinuousQueryMessageProducer extends AbstractDispatchingMessageProducer
 		implements ContinuousQueryListener {
 
 	private static Log logger = LogFactory.getLog(ContinuousQueryMessageProducer.class);
@@ -57,7 +74,27 @@ public class ContinuousQueryMessageProducer extends ExpressionMessageProducerSup
 	private boolean durable;
 
 	private volatile Set<CqEventType> supportedEventTypes =
-			new HashSet<CqEventType>(Arrays.asList(CqEventType.CREATED, CqEventType.UPDATED));
+			EnumSet.of(CqEventType.CREATED, CqEventType.UPDATED);
+
+	private final Object batchMonitor = new Object();
+
+	private int batchSize = 1;
+
+	private long batchTimeout;
+
+	private boolean conflateByKey;
+
+	/**
+	 * The batch payloads in the arrival order: keyed by the event key when conflated,
+	 * otherwise by a unique key per event.
+	 */
+	private Map<Object, Object> batch;
+
+	private final Queue<List<Object>> completedBatches = new ConcurrentLinkedQueue<>();
+
+	private final Lock emitLock = new ReentrantLock();
+
+	private volatile ScheduledFuture<?> batchTimeoutFuture;
 
 	/**
 	 * @param queryListenerContainer a {@link ContinuousQueryListenerContainer}
@@ -86,7 +123,41 @@ public class ContinuousQueryMessageProducer extends ExpressionMessageProducerSup
 
 	public void setSupportedEventTypes(CqEventType... eventTypes) {
 		Assert.notEmpty(eventTypes, "eventTypes must not be empty");
-		this.supportedEventTypes = new HashSet<CqEventType>(Arrays.asList(eventTypes));
+		this.supportedEventTypes = EnumSet.copyOf(Arrays.asList(eventTypes));
+	}
+
+	/**
+	 * Set the number of events to collect into a {@link List} payload of a single message.
+	 * Defaults to 1 - a message per event.
+	 * @param batchSize the number of events in batch.
+	 * @since 6.5
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "'batchSize' must be greater than 0");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Set the time in milliseconds to emit a not full batch.
+	 * Makes sense only if the {@link #setBatchSize(int) batchSize} is greater than 1.
+	 * Defaults to 0 - a batch is emitted only when it is full or the endpoint is stopped.
+	 * @param batchTimeout the batch timeout in milliseconds.
+	 * @since 6.5
+	 */
+	public void setBatchTimeout(long batchTimeout) {
+		Assert.isTrue(batchTimeout >= 0, "'batchTimeout' must not be negative");
+		this.batchTimeout = batchTimeout;
+	}
+
+	/**
+	 * Whether to keep only the latest payload for the same event key in a batch.
+	 * Events without a key (e.g. region events) are not conflated.
+	 * Defaults to false.
+	 * @param conflateByKey true to conflate a batch by the event key.
+	 * @since 6.5
+	 */
+	public void setConflateByKey(boolean conflateByKey) {
+		this.conflateByKey = conflateByKey;
 	}
 
 	@Override
@@ -117,24 +188,102 @@ public class ContinuousQueryMessageProducer extends ExpressionMessageProducerSup
 				logger.debug(String.format("processing cq event key [%s] event [%s]", event.getQueryOperation()
 						.toString(), event.getKey()));
 			}
-			Message<?> message = null;
-			Object object = evaluatePayloadExpression(event);
-			if (object instanceof Message) {
-				message = (Message<?>) object;
+			Object payload = evaluatePayloadExpression(event);
+			if (this.batchSize > 1) {
+				addToBatch(event.getKey(), payload);
 			}
 			else {
-				message = getMessageBuilderFactory().withPayload(object).build();
+				dispatch(event.getKey(), payload);
 			}
-			sendMessage(message);
 		}
 	}
 
-	private boolean isEventSupported(CqEvent event) {
+	@Override
+	protected void doStart() {
+		super.doStart();
+		if (this.batchSize > 1 && this.batchTimeout > 0) {
+			this.batchTimeoutFuture = getTaskScheduler().scheduleWithFixedDelay(this::flushOnTimeout, this.batchTimeout);
+		}
+	}
 
-		String eventName = event.getQueryOperation().toString() +
-				(event.getQueryOperation().toString().endsWith("Y") ? "ED" : "D");
-		CqEventType eventType = CqEventType.valueOf(eventName);
-		return this.supportedEventTypes.contains(eventType);
+	@Override
+	protected void doStop() {
+		ScheduledFuture<?> future = this.batchTimeoutFuture;
+		if (future != null) {
+			future.cancel(false);
+			this.batchTimeoutFuture = null;
+		}
+		flush();
+		super.doStop();
+	}
+
+	private void addToBatch(Object key, Object payload) {
+		boolean batchCompleted = false;
+		synchronized (this.batchMonitor) {
+			if (this.batch == null) {
+				this.batch = new LinkedHashMap<>();
+			}
+			if (this.conflateByKey && key != null) {
+				// Re-insert to move the key to the position of its latest event
+				this.batch.remove(key);
+				this.batch.put(key, payload);
+			}
+			else {
+				this.batch.put(new Object(), payload);
+			}
+			if (this.batch.size() >= this.batchSize) {
+				completeBatch();
+				batchCompleted = true;
+			}
+		}
+		if (batchCompleted) {
+			emitBatches();
+		}
+	}
+
+	private void flush() {
+		synchronized (this.batchMonitor) {
+			completeBatch();
+		}
+		emitBatches();
+	}
+
+	private void flushOnTimeout() {
+		try {
+			flush();
+		}
+		catch (RuntimeException ex) {
+			logger.error("Failed to emit a batch of CQ events on timeout", ex);
+		}
+	}
+
+	private void completeBatch() {
+		if (this.batch != null) {
+			this.completedBatches.add(new ArrayList<>(this.batch.values()));
+			this.batch = null;
+		}
+	}
+
+	/**
+	 * Emit the completed batches one at a time in the order they have been completed,
+	 * so a timed flush never emits a batch before an earlier one completed on another thread.
+	 */
+	private void emitBatches() {
+		this.emitLock.lock();
+		try {
+			List<Object> batchToEmit;
+			while ((batchToEmit = this.completedBatches.poll()) != null) {
+				dispatch(null, batchToEmit);
+			}
+		}
+		finally {
+			this.emitLock.unlock();
+		}
+	}
+
+	private boolean isEventSupported(CqEvent event) {
+		CqEventType eventType = CqEventType.of(event.getQueryOperation());
+		return eventType != null && this.supportedEventTypes.contains(eventType);
 	}
 
 }
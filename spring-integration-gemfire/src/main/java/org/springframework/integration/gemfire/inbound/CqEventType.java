@@ -16,6 +16,8 @@
 
 package org.springframework.integration.gemfire.inbound;
 
+import org.apache.geode.cache.Operation;
+
 /**
  * Enumeration of GemFire Continuous Query Event Types.
  *
@@ -32,5 +34,40 @@ public enum CqEventType {
 
 	REGION_CLEARED,
 
-	REGION_INVALIDATED
+	REGION_INVALIDATED;
+
+	/**
+	 * Map a continuous query {@link Operation} to the {@link CqEventType}
+	 * without any string manipulation.
+	 * @param operation the {@link org.apache.geode.cache.query.CqEvent#getQueryOperation()}.
+	 * @return the event type or {@code null} if the operation doesn't match any.
+	 * @since 6.5
+	 */
+	public static CqEventType of(Operation operation) {
+		if (operation == null) {
+			return null;
+		}
+		else if (operation.isRegion()) {
+			if (operation.isClear()) {
+				return REGION_CLEARED;
+			}
+			else if (operation.isRegionInvalidate()) {
+				return REGION_INVALIDATED;
+			}
+			return null;
+		}
+		else if (operation.isCreate()) {
+			return CREATED;
+		}
+		else if (operation.isUpdate()) {
+			return UPDATED;
+		}
+		else if (operation.isDestroy()) {
+			return DESTROYED;
+		}
+		else {
+			return null;
+		}
+	}
+
 }
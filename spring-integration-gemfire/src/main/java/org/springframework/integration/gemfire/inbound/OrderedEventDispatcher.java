@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.gemfire.inbound;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.util.Assert;
+
+/**
+ * Hands off events from GemFire listener threads to an {@link Executor}.
+ * Events are distributed over a number of stripes by their key hash, so the events
+ * for the same key are handled in order and one at a time, while events for different
+ * stripes are handled concurrently.
+ * Each stripe has its own bounded queue; an event arriving to a full queue is handled
+ * according to the {@link OverflowPolicy}.
+ *
+ * @param <E> the event type.
+ *
+ * @author agent
+ *
+ * @since 6.5
+ */
+final class OrderedEventDispatcher<E> {
+
+	private static final Log logger = LogFactory.getLog(OrderedEventDispatcher.class);
+
+	private final Executor executor;
+
+	private final int queueCapacity;
+
+	private final OverflowPolicy overflowPolicy;
+
+	private final Consumer<E> eventHandler;
+
+	private final List<Stripe> stripes;
+
+	private final AtomicLong droppedCount = new AtomicLong();
+
+	OrderedEventDispatcher(Executor executor, int concurrency, int queueCapacity, OverflowPolicy overflowPolicy,
+			Consumer<E> eventHandler) {
+
+		Assert.notNull(executor, "'executor' must not be null");
+		Assert.isTrue(concurrency > 0, "'concurrency' must be greater than 0");
+		Assert.isTrue(queueCapacity > 0, "'queueCapacity' must be greater than 0");
+		Assert.notNull(overflowPolicy, "'overflowPolicy' must not be null");
+		Assert.notNull(eventHandler, "'eventHandler' must not be null");
+		this.executor = executor;
+		this.queueCapacity = queueCapacity;
+		this.overflowPolicy = overflowPolicy;
+		this.eventHandler = eventHandler;
+		this.stripes = new ArrayList<>(concurrency);
+		for (int i = 0; i < concurrency; i++) {
+			this.stripes.add(new Stripe());
+		}
+	}
+
+	void dispatch(Object key, E event) {
+		int stripe = key != null ? Math.floorMod(key.hashCode(), this.stripes.size()) : 0;
+		this.stripes.get(stripe).add(event);
+	}
+
+	int getQueueSize() {
+		int size = 0;
+		for (Stripe stripe : this.stripes) {
+			size += stripe.queue.size() + stripe.overflow.size();
+		}
+		return size;
+	}
+
+	int getOverflowSize() {
+		int size = 0;
+		for (Stripe stripe : this.stripes) {
+			size += stripe.overflow.size();
+		}
+		return size;
+	}
+
+	long getDroppedCount() {
+		return this.droppedCount.get();
+	}
+
+	private final class Stripe implements Runnable {
+
+		private final BlockingQueue<E> queue = new ArrayBlockingQueue<>(OrderedEventDispatcher.this.queueCapacity);
+
+		private final Queue<E> overflow = new ConcurrentLinkedQueue<>();
+
+		private final AtomicBoolean scheduled = new AtomicBoolean();
+
+		Stripe() {
+		}
+
+		void add(E event) {
+			synchronized (this) {
+				if (!this.overflow.isEmpty() || !this.queue.offer(event)) {
+					switch (OrderedEventDispatcher.this.overflowPolicy) {
+						case SPILL:
+							this.overflow.add(event);
+							break;
+						case BLOCK:
+							schedule();
+							try {
+								this.queue.put(event);
+							}
+							catch (InterruptedException ex) {
+								Thread.currentThread().interrupt();
+								drop(event);
+								return;
+							}
+							break;
+						default:
+							drop(event);
+							return;
+					}
+				}
+			}
+			schedule();
+		}
+
+		private void drop(E event) {
+			OrderedEventDispatcher.this.droppedCount.incrementAndGet();
+			if (logger.isDebugEnabled()) {
+				logger.debug("The dispatch queue is full; the event is dropped: " + event);
+			}
+		}
+
+		private void schedule() {
+			if (this.scheduled.compareAndSet(false, true)) {
+				try {
+					OrderedEventDispatcher.this.executor.execute(this);
+				}
+				catch (RejectedExecutionException ex) {
+					this.scheduled.set(false);
+					throw ex;
+				}
+			}
+		}
+
+		@Override
+		public void run() {
+			try {
+				// Limit the run to let other stripes be served by the same executor threads
+				for (int i = 0; i < OrderedEventDispatcher.this.queueCapacity; i++) {
+					E event = this.queue.poll();
+					if (event == null) {
+						event = this.overflow.poll();
+					}
+					if (event == null) {
+						break;
+					}
+					try {
+						OrderedEventDispatcher.this.eventHandler.accept(event);
+					}
+					catch (RuntimeException ex) {
+						logger.error("Failed to dispatch event: " + event, ex);
+					}
+				}
+			}
+			finally {
+				this.scheduled.set(false);
+			}
+			if (!this.queue.isEmpty() || !this.overflow.isEmpty()) {
+				schedule();
+			}
+		}
+
+	}
+
+}
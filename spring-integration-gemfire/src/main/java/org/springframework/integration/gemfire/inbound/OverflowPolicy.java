@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.gemfire.inbound;
+
+/**
+ * Enumeration of policies for events arriving to a full dispatch queue
+ * of the inbound channel adapters in the off-thread mode.
+ *
+ * @author agent
+ *
+ * @since 6.5
+ */
+public enum OverflowPolicy {
+
+	/**
+	 * Discard the event.
+	 */
+	DROP,
+
+	/**
+	 * Block the GemFire listener thread until the queue has space.
+	 */
+	BLOCK,
+
+	/**
+	 * Spill the event over to an unbounded in-memory overflow queue.
+	 * Nothing is written to disk: the overflow queue lives on the heap and has no limit,
+	 * so a consumer slower than the event rate for a long time can exhaust the memory.
+	 * Monitor the overflow queue size with the {@code getOverflowSize()} of the channel adapter.
+	 */
+	SPILL
+
+}
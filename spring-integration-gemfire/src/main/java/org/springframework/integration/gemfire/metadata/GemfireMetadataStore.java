@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,14 +16,32 @@
 
 package org.springframework.integration.gemfire.metadata;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheTransactionManager;
+import org.apache.geode.cache.CommitConflictException;
 import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.RegionService;
 import org.apache.geode.cache.Scope;
+import org.apache.geode.cache.TransactionException;
+import org.apache.geode.cache.UnsupportedOperationInTransactionException;
 import org.apache.geode.cache.util.CacheListenerAdapter;
 
 import org.springframework.integration.metadata.ListenableMetadataStore;
@@ -35,6 +53,10 @@ import org.springframework.util.Assert;
  * Use this {@link org.springframework.integration.metadata.MetadataStore}
  * to achieve meta-data persistence shared across application instances and
  * restarts.
+ * <p>
+ * The {@link MetadataStoreListener}s are called on the GemFire cache listener thread,
+ * unless a {@link #setTaskExecutor(Executor) taskExecutor} is provided to call them
+ * asynchronously, in the order of events.
  *
  * @author Artem Bilan
  * @author Venil Noronha
@@ -52,6 +74,8 @@ public class GemfireMetadataStore implements ListenableMetadataStore {
 
 	private final Region<String, String> region;
 
+	private int transactionRetries = 3;
+
 	public GemfireMetadataStore(Cache cache) {
 		this(Objects.requireNonNull(cache, "'cache' must not be null")
 				.<String, String>createRegionFactory()
@@ -66,6 +90,31 @@ public class GemfireMetadataStore implements ListenableMetadataStore {
 				.addCacheListener(this.cacheListener);
 	}
 
+	/**
+	 * Set an {@link Executor} to call {@link MetadataStoreListener}s on, so slow listeners
+	 * don't stall the region writes. The events are still delivered one at a time
+	 * in the order they happened. Not set by default - listeners are called on the
+	 * GemFire cache listener thread.
+	 * @param taskExecutor the executor for listeners.
+	 * @since 6.5
+	 */
+	public void setTaskExecutor(Executor taskExecutor) {
+		Assert.notNull(taskExecutor, "'taskExecutor' must not be null");
+		this.cacheListener.taskExecutor = taskExecutor;
+	}
+
+	/**
+	 * Set the number of times the {@link #putIfAbsentAll(Map)} transaction is retried
+	 * on a {@link CommitConflictException} before falling back to the per-key
+	 * {@link Region#putIfAbsent(Object, Object)}. Defaults to 3.
+	 * @param transactionRetries the number of retries.
+	 * @since 6.5
+	 */
+	public void setTransactionRetries(int transactionRetries) {
+		Assert.isTrue(transactionRetries >= 0, "'transactionRetries' must not be negative");
+		this.transactionRetries = transactionRetries;
+	}
+
 	@Override
 	public void put(String key, String value) {
 		Assert.notNull(key, KEY_MUST_NOT_BE_NULL);
@@ -100,6 +149,135 @@ public class GemfireMetadataStore implements ListenableMetadataStore {
 		return this.region.remove(key);
 	}
 
+	/**
+	 * Store all the provided entries with a single {@link Region#putAll(Map)} call.
+	 * @param entries the entries to store.
+	 * @since 6.5
+	 */
+	public void putAll(Map<String, String> entries) {
+		assertEntries(entries);
+		this.region.putAll(entries);
+	}
+
+	/**
+	 * Store all the provided entries for keys which are not present in the store yet.
+	 * The present keys are determined with a single {@link Region#getAll(Collection)} call
+	 * and the absent keys are stored with a single {@link Region#putAll(Map)} call,
+	 * both in one GemFire transaction, which is retried on a commit conflict
+	 * up to the {@link #setTransactionRetries(int) transactionRetries} times.
+	 * When a transaction can't be used (a {@link Scope#GLOBAL} or partitioned region,
+	 * a transaction already in progress on the current thread, the region not backed by a cache)
+	 * or it fails, the absent keys are stored one by one with the atomic
+	 * {@link Region#putIfAbsent(Object, Object)}.
+	 * @param entries the entries to store.
+	 * @return the existing values for keys which have not been stored.
+	 * @since 6.5
+	 */
+	public Map<String, String> putIfAbsentAll(Map<String, String> entries) {
+		assertEntries(entries);
+		CacheTransactionManager transactionManager = obtainTransactionManager();
+		if (transactionManager != null) {
+			for (int attempt = 0; attempt <= this.transactionRetries; attempt++) {
+				transactionManager.begin();
+				try {
+					Map<String, String> existing = new HashMap<>();
+					Map<String, String> absent = new HashMap<>();
+					Map<String, String> present = this.region.getAll(entries.keySet());
+					entries.forEach((key, value) -> {
+						String presentValue = present.get(key);
+						if (presentValue != null) {
+							existing.put(key, presentValue);
+						}
+						else {
+							absent.put(key, value);
+						}
+					});
+					if (!absent.isEmpty()) {
+						this.region.putAll(absent);
+					}
+					transactionManager.commit();
+					return existing;
+				}
+				catch (CommitConflictException ex) {
+					// Another member has changed some of the keys - retry on the fresh data
+				}
+				catch (TransactionException | UnsupportedOperationInTransactionException ex) {
+					// E.g. the data has been rebalanced or its host has departed
+					break;
+				}
+				finally {
+					if (transactionManager.exists()) {
+						transactionManager.rollback();
+					}
+				}
+			}
+		}
+		return putIfAbsentEach(entries);
+	}
+
+	private Map<String, String> putIfAbsentEach(Map<String, String> entries) {
+		Map<String, String> existing = new HashMap<>();
+		Map<String, String> present = this.region.getAll(entries.keySet());
+		entries.forEach((key, value) -> {
+			String presentValue = present.get(key);
+			if (presentValue == null) {
+				presentValue = this.region.putIfAbsent(key, value);
+			}
+			if (presentValue != null) {
+				existing.put(key, presentValue);
+			}
+		});
+		return existing;
+	}
+
+	private CacheTransactionManager obtainTransactionManager() {
+		RegionAttributes<String, String> attributes = this.region.getAttributes();
+		if (Scope.GLOBAL.equals(attributes.getScope()) || attributes.getDataPolicy().withPartitioning()) {
+			// Not supported in transactions or the keys are most likely not colocated
+			return null;
+		}
+		RegionService regionService = this.region.getRegionService();
+		if (regionService instanceof GemFireCache cache) {
+			CacheTransactionManager transactionManager = cache.getCacheTransactionManager();
+			if (transactionManager != null && !transactionManager.exists()) {
+				return transactionManager;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Retrieve the values for all the provided keys with a single {@link Region#getAll(Collection)} call.
+	 * @param keys the keys to retrieve.
+	 * @return the map of found entries; absent keys are not included.
+	 * @since 6.5
+	 */
+	public Map<String, String> getAll(Set<String> keys) {
+		Assert.notNull(keys, "'keys' must not be null.");
+		Map<String, String> result = new HashMap<>(this.region.getAll(keys));
+		result.values().removeIf(Objects::isNull);
+		return result;
+	}
+
+	/**
+	 * Remove all the provided keys with a single {@link Region#removeAll(Collection)} call.
+	 * @param keys the keys to remove.
+	 * @since 6.5
+	 */
+	public void removeAll(Collection<String> keys) {
+		Assert.notNull(keys, "'keys' must not be null.");
+		Assert.noNullElements(keys.toArray(), "'keys' must not contain null elements.");
+		this.region.removeAll(keys);
+	}
+
+	private static void assertEntries(Map<String, String> entries) {
+		Assert.notNull(entries, "'entries' must not be null.");
+		entries.forEach((key, value) -> {
+			Assert.notNull(key, KEY_MUST_NOT_BE_NULL);
+			Assert.notNull(value, "'value' must not be null.");
+		});
+	}
+
 	@Override
 	public void addListener(MetadataStoreListener listener) {
 		Assert.notNull(listener, "'listener' must not be null");
@@ -113,24 +291,85 @@ public class GemfireMetadataStore implements ListenableMetadataStore {
 
 	private static class GemfireCacheListener extends CacheListenerAdapter<String, String> {
 
+		private static final Log logger = LogFactory.getLog(GemfireCacheListener.class);
+
 		private final List<MetadataStoreListener> listeners = new CopyOnWriteArrayList<>();
 
+		private final Queue<Runnable> events = new ConcurrentLinkedQueue<>();
+
+		private final AtomicBoolean scheduled = new AtomicBoolean();
+
+		private volatile Executor taskExecutor;
+
 		GemfireCacheListener() {
 		}
 
 		@Override
 		public void afterCreate(EntryEvent<String, String> event) {
-			this.listeners.forEach(listener -> listener.onAdd(event.getKey(), event.getNewValue()));
+			String key = event.getKey();
+			String value = event.getNewValue();
+			dispatch(() -> this.listeners.forEach(listener -> listener.onAdd(key, value)));
 		}
 
 		@Override
 		public void afterUpdate(EntryEvent<String, String> event) {
-			this.listeners.forEach(listener -> listener.onUpdate(event.getKey(), event.getNewValue()));
+			String key = event.getKey();
+			String value = event.getNewValue();
+			dispatch(() -> this.listeners.forEach(listener -> listener.onUpdate(key, value)));
 		}
 
 		@Override
 		public void afterDestroy(EntryEvent<String, String> event) {
-			this.listeners.forEach(listener -> listener.onRemove(event.getKey(), event.getOldValue()));
+			String key = event.getKey();
+			String value = event.getOldValue();
+			dispatch(() -> this.listeners.forEach(listener -> listener.onRemove(key, value)));
+		}
+
+		private void dispatch(Runnable event) {
+			if (this.listeners.isEmpty()) {
+				return;
+			}
+			Executor executor = this.taskExecutor;
+			if (executor == null) {
+				event.run();
+			}
+			else {
+				this.events.add(event);
+				schedule(executor);
+			}
+		}
+
+		private void schedule(Executor executor) {
+			if (this.scheduled.compareAndSet(false, true)) {
+				try {
+					executor.execute(this::drain);
+				}
+				catch (RejectedExecutionException ex) {
+					// Let the next event try to schedule the drain again
+					this.scheduled.set(false);
+					throw ex;
+				}
+			}
+		}
+
+		private void drain() {
+			try {
+				Runnable event;
+				while ((event = this.events.poll()) != null) {
+					try {
+						event.run();
+					}
+					catch (RuntimeException ex) {
+						logger.error("MetadataStoreListener failed", ex);
+					}
+				}
+			}
+			finally {
+				this.scheduled.set(false);
+			}
+			if (!this.events.isEmpty()) {
+				schedule(this.taskExecutor);
+			}
 		}
 
 	}
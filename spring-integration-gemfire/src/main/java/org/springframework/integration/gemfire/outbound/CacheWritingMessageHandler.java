@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -20,25 +20,47 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.geode.GemFireCheckedException;
 import org.apache.geode.GemFireException;
 import org.apache.geode.cache.Region;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.data.gemfire.GemfireCallback;
 import org.springframework.data.gemfire.GemfireTemplate;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.integration.expression.ExpressionUtils;
 import org.springframework.integration.handler.AbstractMessageHandler;
 import org.springframework.messaging.Message;
+import org.springframework.scheduling.support.TaskUtils;
 import org.springframework.util.Assert;
+import org.springframework.util.ErrorHandler;
 
 /**
  * A {@link org.springframework.messaging.MessageHandler} implementation that writes to a
  * GemFire Region. The Message's payload must be an instance of {@link Map} or
  * {@link #cacheEntryExpressions} must be provided.
+ * <p>
+ * When the {@link #setBatchSize(int) batchSize} is greater than 1, the entries from
+ * many messages are accumulated and written with a single {@code Region.putAll()}
+ * when the batch is full or the {@link #setBatchTimeout(long) batchTimeout} is over.
+ * The last written value wins for the same key within a batch.
+ * The batches can be written on the provided {@link #setTaskExecutor(Executor) taskExecutor},
+ * so the message producers are not blocked on the region round-trip.
+ * Only one batch is written at a time, in the order the batches have been completed,
+ * so the last written value wins for the same key across batches as well.
  *
  * @author Mark Fisher
  * @author David Turanski
@@ -47,22 +69,97 @@ import org.springframework.util.Assert;
  *
  * @since 2.1
  */
-public class CacheWritingMessageHandler extends AbstractMessageHandler {
+public class CacheWritingMessageHandler extends AbstractMessageHandler implements DisposableBean {
 
-	private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+	private static final long DESTROY_TIMEOUT = 10_000L;
+
+	private static final SpelExpressionParser PARSER =
+			new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.MIXED,
+					CacheWritingMessageHandler.class.getClassLoader()));
 
 	private final Map<Expression, Expression> cacheEntryExpressions = new LinkedHashMap<Expression, Expression>();
 
 	private final GemfireTemplate gemfireTemplate = new GemfireTemplate();
 
+	private final Object batchMonitor = new Object();
+
+	private final Queue<Map<Object, Object>> completedBatches = new ConcurrentLinkedQueue<>();
+
+	private final Lock writeLock = new ReentrantLock();
+
+	private final AtomicBoolean writeScheduled = new AtomicBoolean();
+
 	private volatile EvaluationContext evaluationContext;
 
+	private int batchSize = 1;
+
+	private long batchTimeout;
+
+	private Executor taskExecutor;
+
+	private ErrorHandler errorHandler = TaskUtils.LOG_AND_SUPPRESS_ERROR_HANDLER;
+
+	private Map<Object, Object> batch;
+
+	private volatile ScheduledFuture<?> batchTimeoutFuture;
+
 	@SuppressWarnings("rawtypes")
 	public CacheWritingMessageHandler(Region region) {
 		Assert.notNull(region, "region must not be null");
 		this.gemfireTemplate.setRegion(region);
 	}
 
+	/**
+	 * Set the number of cache entries to accumulate before writing them to the region
+	 * with a single {@code putAll()}.
+	 * Defaults to 1 - the entries of each message are written immediately.
+	 * @param batchSize the number of entries in batch.
+	 * @since 6.5
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "'batchSize' must be greater than 0");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Set the time in milliseconds to write a not full batch to the region.
+	 * Makes sense only if the {@link #setBatchSize(int) batchSize} is greater than 1.
+	 * Defaults to 0 - a batch is written only when it is full, or the handler is destroyed,
+	 * or the {@link #flush()} is called.
+	 * @param batchTimeout the batch timeout in milliseconds.
+	 * @since 6.5
+	 */
+	public void setBatchTimeout(long batchTimeout) {
+		Assert.isTrue(batchTimeout >= 0, "'batchTimeout' must not be negative");
+		this.batchTimeout = batchTimeout;
+	}
+
+	/**
+	 * Set an {@link Executor} to write batches to the region on.
+	 * Use an executor with a bounded queue (e.g. a {@code ThreadPoolTaskExecutor} with
+	 * a {@code queueCapacity}) and an appropriate rejection policy to apply back-pressure
+	 * when the region is slower than the message producers.
+	 * Defaults to the calling thread.
+	 * @param taskExecutor the executor to write batches on.
+	 * @since 6.5
+	 */
+	public void setTaskExecutor(Executor taskExecutor) {
+		Assert.notNull(taskExecutor, "'taskExecutor' must not be null");
+		this.taskExecutor = taskExecutor;
+	}
+
+	/**
+	 * Set an {@link ErrorHandler} for batch write failures on the
+	 * {@link #setTaskExecutor(Executor) taskExecutor} or on the batch timeout.
+	 * Defaults to {@link TaskUtils#LOG_AND_SUPPRESS_ERROR_HANDLER}.
+	 * @param errorHandler the error handler for batch write failures.
+	 * @since 6.5
+	 */
+	public void setErrorHandler(ErrorHandler errorHandler) {
+		Assert.notNull(errorHandler, "'errorHandler' must not be null");
+		this.errorHandler = errorHandler;
+	}
+
 	@Override
 	public String getComponentType() {
 		return "gemfire:outbound-channel-adapter";
@@ -73,11 +170,20 @@ public class CacheWritingMessageHandler extends AbstractMessageHandler {
 		super.onInit();
 		this.gemfireTemplate.afterPropertiesSet();
 		this.evaluationContext = ExpressionUtils.createStandardEvaluationContext(getBeanFactory());
+		if (this.batchSize > 1 && this.batchTimeout > 0) {
+			this.batchTimeoutFuture =
+					getTaskScheduler().scheduleWithFixedDelay(this::flushOnTimeout, this.batchTimeout);
+		}
 	}
 
 	@Override
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	protected void handleMessageInternal(Message<?> message) {
+		if (this.batchSize > 1) {
+			addToBatch(message);
+			return;
+		}
+
 		Object payload = message.getPayload();
 		Map<?, ?> cacheValues = (this.cacheEntryExpressions.size() > 0) ? evaluateCacheEntries(message) : null;
 
@@ -87,8 +193,109 @@ public class CacheWritingMessageHandler extends AbstractMessageHandler {
 			cacheValues = (Map) payload;
 		}
 
-		final Map<?, ?> map = cacheValues;
+		putAll(cacheValues);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void addToBatch(Message<?> message) {
+		Object payload = message.getPayload();
+		Map<Object, Object> cacheValues = evaluateCacheEntries(message);
+		if (cacheValues == null) {
+			Assert.state(payload instanceof Map,
+					"If cache entry expressions are not configured, then payload must be a Map");
+			cacheValues = (Map<Object, Object>) payload;
+		}
+
+		boolean batchCompleted = false;
+		synchronized (this.batchMonitor) {
+			if (this.batch == null) {
+				this.batch = new HashMap<Object, Object>(this.batchSize * 4 / 3 + 1);
+			}
+			this.batch.putAll(cacheValues);
+			if (this.batch.size() >= this.batchSize) {
+				this.completedBatches.add(this.batch);
+				this.batch = null;
+				batchCompleted = true;
+			}
+		}
+
+		if (batchCompleted) {
+			writeBatches();
+		}
+	}
+
+	/**
+	 * Write the currently accumulated batch (if any) to the region, together with the completed batches
+	 * not written yet (e.g. after a {@link RejectedExecutionException}).
+	 * @since 6.5
+	 */
+	public void flush() {
+		synchronized (this.batchMonitor) {
+			if (this.batch != null) {
+				this.completedBatches.add(this.batch);
+				this.batch = null;
+			}
+		}
+		writeBatches();
+	}
+
+	private void flushOnTimeout() {
+		try {
+			flush();
+		}
+		catch (RuntimeException ex) {
+			this.errorHandler.handleError(ex);
+		}
+	}
+
+	/**
+	 * Write the completed batches one at a time in the order they have been completed:
+	 * on the calling thread under the write lock, or by a single in-flight task on the
+	 * {@link #setTaskExecutor(Executor) taskExecutor}.
+	 */
+	private void writeBatches() {
+		if (this.taskExecutor == null) {
+			this.writeLock.lock();
+			try {
+				Map<Object, Object> batchToWrite;
+				while ((batchToWrite = this.completedBatches.poll()) != null) {
+					putAll(batchToWrite);
+				}
+			}
+			finally {
+				this.writeLock.unlock();
+			}
+		}
+		else if (this.writeScheduled.compareAndSet(false, true)) {
+			try {
+				this.taskExecutor.execute(this::writeBatchesOnExecutor);
+			}
+			catch (RejectedExecutionException ex) {
+				// The batch stays queued and is written with the next one
+				this.writeScheduled.set(false);
+				throw ex;
+			}
+		}
+	}
+
+	private void writeBatchesOnExecutor() {
+		do {
+			Map<Object, Object> batchToWrite;
+			while ((batchToWrite = this.completedBatches.poll()) != null) {
+				try {
+					putAll(batchToWrite);
+				}
+				catch (RuntimeException ex) {
+					this.errorHandler.handleError(ex);
+				}
+			}
+			this.writeScheduled.set(false);
+		}
+		while (!this.completedBatches.isEmpty() && this.writeScheduled.compareAndSet(false, true));
+	}
 
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private void putAll(final Map<?, ?> map) {
 		this.gemfireTemplate.execute(new GemfireCallback<Object>() {
 
 			@Override
@@ -105,15 +312,27 @@ public class CacheWritingMessageHandler extends AbstractMessageHandler {
 			return null;
 		}
 		else {
-			Map<Object, Object> cacheValues = new HashMap<Object, Object>();
-			for (Entry<Expression, Expression> expressionEntry : this.cacheEntryExpressions.entrySet()) {
-				cacheValues.put(expressionEntry.getKey().getValue(this.evaluationContext, message),
-						expressionEntry.getValue().getValue(this.evaluationContext, message));
-			}
+			Map<Object, Object> cacheValues =
+					new HashMap<Object, Object>(this.cacheEntryExpressions.size() * 4 / 3 + 1);
+			evaluateCacheEntries(message, cacheValues);
 			return cacheValues;
 		}
 	}
 
+	private void evaluateCacheEntries(Message<?> message, Map<Object, Object> cacheValues) {
+		for (Entry<Expression, Expression> expressionEntry : this.cacheEntryExpressions.entrySet()) {
+			cacheValues.put(expressionEntry.getKey().getValue(this.evaluationContext, message),
+					expressionEntry.getValue().getValue(this.evaluationContext, message));
+		}
+	}
+
+	/**
+	 * Set the map of SpEL expressions (as strings) for the cache entry keys and values.
+	 * The expressions are parsed in the {@link SpelCompilerMode#MIXED} mode:
+	 * they are compiled to bytecode after some interpreted evaluations
+	 * and fall back to the interpreter if a compiled expression fails (e.g. on a type change).
+	 * @param cacheEntries the key/value SpEL expressions.
+	 */
 	public void setCacheEntries(Map<String, String> cacheEntries) {
 		Assert.notNull(cacheEntries, "'cacheEntries' must not be null");
 		if (this.cacheEntryExpressions.size() > 0) {
@@ -134,4 +353,50 @@ public class CacheWritingMessageHandler extends AbstractMessageHandler {
 		this.cacheEntryExpressions.putAll(cacheEntryExpressions);
 	}
 
+	/**
+	 * Cancel the batch timeout task, write the currently accumulated batch (if any)
+	 * and wait (up to 10 seconds) for the batches being written on the
+	 * {@link #setTaskExecutor(Executor) taskExecutor}.
+	 */
+	@Override
+	public void destroy() {
+		ScheduledFuture<?> future = this.batchTimeoutFuture;
+		if (future != null) {
+			future.cancel(false);
+			this.batchTimeoutFuture = null;
+		}
+		try {
+			flush();
+		}
+		catch (RejectedExecutionException ex) {
+			// The executor is shut down - the batches are written on this thread below
+		}
+		if (this.taskExecutor != null) {
+			awaitBatchWrites();
+		}
+	}
+
+	private void awaitBatchWrites() {
+		long deadline = System.currentTimeMillis() + DESTROY_TIMEOUT;
+		while (this.writeScheduled.get() || !this.completedBatches.isEmpty()) {
+			if (this.writeScheduled.compareAndSet(false, true)) {
+				// No write in flight - write the left batches on this thread
+				writeBatchesOnExecutor();
+			}
+			else if (System.currentTimeMillis() >= deadline) {
+				this.logger.warn("Batches have not been written to the region in " + DESTROY_TIMEOUT + " ms");
+				return;
+			}
+			else {
+				try {
+					Thread.sleep(10);
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
 }
@@ -0,0 +1,347 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.gemfire.outbound;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.execute.Execution;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.FunctionService;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.integration.expression.ExpressionUtils;
+import org.springframework.integration.handler.AbstractReplyProducingMessageHandler;
+import org.springframework.integration.support.AbstractIntegrationMessageBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandlingException;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link AbstractReplyProducingMessageHandler} implementation to execute a GemFire
+ * {@link Function} on a region for the request message, so the work runs on the members
+ * hosting the data instead of the caller.
+ * <p>
+ * The keys evaluated by the {@link #setFilterExpression(Expression) filterExpression}
+ * route the execution to the members owning those keys via the {@code Execution.withFilter()}.
+ * The function arguments are evaluated by the {@link #setArgumentsExpression(Expression) argumentsExpression}
+ * (the request message payload by default).
+ * <p>
+ * By default the results from all the members are gathered by the GemFire default
+ * {@link ResultCollector} into a {@link java.util.List} reply payload.
+ * In the {@link #setStreaming(boolean) streaming} mode each result chunk sent by the function
+ * is produced as a separate reply message as soon as the next chunk (or the end of the results) arrives.
+ * A function which {@link Function#hasResult() has no result} is executed without waiting and produces no reply.
+ *
+ * @author agent
+ *
+ * @since 6.5
+ */
+public class GemfireFunctionOutboundGateway extends AbstractReplyProducingMessageHandler {
+
+	private static final long DEFAULT_RESULT_TIMEOUT = 30_000L;
+
+	private final Region<?, ?> region;
+
+	private final String functionId;
+
+	private final Function<?> function;
+
+	private Expression filterExpression;
+
+	private Expression argumentsExpression;
+
+	private long resultTimeout = DEFAULT_RESULT_TIMEOUT;
+
+	private boolean streaming;
+
+	private EvaluationContext evaluationContext;
+
+	/**
+	 * Construct an instance to execute a function registered on the data members with the provided id.
+	 * @param region the region to execute the function on.
+	 * @param functionId the function id.
+	 */
+	public GemfireFunctionOutboundGateway(Region<?, ?> region, String functionId) {
+		Assert.notNull(region, "'region' must not be null");
+		Assert.hasText(functionId, "'functionId' must not be empty");
+		this.region = region;
+		this.functionId = functionId;
+		this.function = null;
+	}
+
+	/**
+	 * Construct an instance to execute the provided function.
+	 * @param region the region to execute the function on.
+	 * @param function the function to execute.
+	 */
+	public GemfireFunctionOutboundGateway(Region<?, ?> region, Function<?> function) {
+		Assert.notNull(region, "'region' must not be null");
+		Assert.notNull(function, "'function' must not be null");
+		this.region = region;
+		this.functionId = null;
+		this.function = function;
+	}
+
+	/**
+	 * Specify a SpEL {@link Expression} to evaluate a key or a {@link Collection} of keys
+	 * against the request message for the {@code Execution.withFilter()}.
+	 * If not provided or evaluated to {@code null}, the function is executed on all the members
+	 * hosting the region.
+	 * @param filterExpression the expression for the filter keys.
+	 */
+	public void setFilterExpression(Expression filterExpression) {
+		Assert.notNull(filterExpression, "'filterExpression' must not be null");
+		this.filterExpression = filterExpression;
+	}
+
+	/**
+	 * Specify a SpEL {@link Expression} to evaluate the function arguments against the request message.
+	 * Defaults to the request message payload.
+	 * @param argumentsExpression the expression for the function arguments.
+	 */
+	public void setArgumentsExpression(Expression argumentsExpression) {
+		Assert.notNull(argumentsExpression, "'argumentsExpression' must not be null");
+		this.argumentsExpression = argumentsExpression;
+	}
+
+	/**
+	 * Set the time in milliseconds to wait for the function results; in the {@link #setStreaming(boolean) streaming}
+	 * mode - for the end of the results. The request fails with a {@link FunctionException} when the results
+	 * don't arrive in time. Not related to the {@link #setSendTimeout(long) sendTimeout} for the reply messages.
+	 * A negative value means wait indefinitely. Defaults to 30 seconds.
+	 * @param resultTimeout the time to wait for results.
+	 */
+	public void setResultTimeout(long resultTimeout) {
+		this.resultTimeout = resultTimeout;
+	}
+
+	/**
+	 * Whether to produce each result chunk sent by the function as a separate reply message.
+	 * The chunks are handed off from the GemFire threads and produced on the calling thread.
+	 * The {@code null} results are skipped; a {@link Throwable} result (sent by the function via
+	 * {@code ResultSender.sendException()}) fails the request with a {@link MessageHandlingException}.
+	 * The reply messages carry the request message id as a {@code correlationId} header and
+	 * the chunk order as a {@code sequenceNumber} header. The last reply message also carries
+	 * the {@code sequenceSize} header equal to its {@code sequenceNumber}, so it marks the end of the results.
+	 * Note: chunks produced before a function is re-executed on a member failure
+	 * (for the {@link Function#isHA()} functions) cannot be retracted.
+	 * Defaults to false - all the results are gathered into a single reply.
+	 * @param streaming true to produce a reply message per result chunk.
+	 */
+	public void setStreaming(boolean streaming) {
+		this.streaming = streaming;
+	}
+
+	@Override
+	public String getComponentType() {
+		return "gemfire:function-outbound-gateway";
+	}
+
+	@Override
+	protected void doInit() {
+		this.evaluationContext = ExpressionUtils.createStandardEvaluationContext(getBeanFactory());
+	}
+
+	@Override
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	protected Object handleRequestMessage(Message<?> requestMessage) {
+		Execution execution = FunctionService.onRegion(this.region);
+		Set<?> filter = evaluateFilter(requestMessage);
+		if (filter != null) {
+			execution = execution.withFilter(filter);
+		}
+		Object arguments = requestMessage.getPayload();
+		if (this.argumentsExpression != null) {
+			arguments = this.argumentsExpression.getValue(this.evaluationContext, requestMessage);
+		}
+		if (arguments != null) {
+			execution = execution.setArguments(arguments);
+		}
+		if (!hasResult()) {
+			executeFunction(execution);
+			return null;
+		}
+		StreamingResultCollector streamingResultCollector = null;
+		if (this.streaming) {
+			streamingResultCollector = new StreamingResultCollector();
+			execution = execution.withCollector(streamingResultCollector);
+		}
+
+		ResultCollector<?, ?> resultCollector = executeFunction(execution);
+		try {
+			if (streamingResultCollector != null) {
+				streamingResultCollector.produceReplies(requestMessage);
+				return null;
+			}
+			return this.resultTimeout >= 0
+					? resultCollector.getResult(this.resultTimeout, TimeUnit.MILLISECONDS)
+					: resultCollector.getResult();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new MessageHandlingException(requestMessage, "Interrupted while waiting for the function results",
+					ex);
+		}
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private ResultCollector<?, ?> executeFunction(Execution execution) {
+		return this.function != null
+				? execution.execute(this.function)
+				: execution.execute(this.functionId);
+	}
+
+	/**
+	 * Whether the function sends results. A function only known by id on the remote members
+	 * is expected to have results.
+	 * @return false if the function {@link Function#hasResult() has no result}.
+	 */
+	private boolean hasResult() {
+		Function<?> functionToExecute =
+				this.function != null
+						? this.function
+						: FunctionService.getFunction(this.functionId);
+		return functionToExecute == null || functionToExecute.hasResult();
+	}
+
+	private Set<?> evaluateFilter(Message<?> requestMessage) {
+		if (this.filterExpression == null) {
+			return null;
+		}
+		Object keys = this.filterExpression.getValue(this.evaluationContext, requestMessage);
+		if (keys == null) {
+			return null;
+		}
+		else if (keys instanceof Set) {
+			return (Set<?>) keys;
+		}
+		else if (keys instanceof Collection) {
+			return new HashSet<Object>((Collection<?>) keys);
+		}
+		else {
+			return Collections.singleton(keys);
+		}
+	}
+
+	/**
+	 * The {@link ResultCollector} to hand off the result chunks from the GemFire threads
+	 * to the calling thread, which produces them as reply messages.
+	 */
+	private final class StreamingResultCollector implements ResultCollector<Object, Object> {
+
+		private final Object endOfResults = new Object();
+
+		private final BlockingQueue<Object> results = new LinkedBlockingQueue<>();
+
+		StreamingResultCollector() {
+		}
+
+		/**
+		 * Produce the result chunks as reply messages until the end of results.
+		 * A chunk is produced when the next one arrives, so the last chunk can be marked
+		 * with the {@code sequenceSize} header.
+		 * @param requestMessage the request message.
+		 * @throws InterruptedException if interrupted while waiting for results.
+		 */
+		void produceReplies(Message<?> requestMessage) throws InterruptedException {
+			long timeout = GemfireFunctionOutboundGateway.this.resultTimeout;
+			long start = System.nanoTime();
+			Object pending = null;
+			int sequence = 0;
+			while (true) {
+				Object result;
+				if (timeout >= 0) {
+					long remaining = TimeUnit.MILLISECONDS.toNanos(timeout) - (System.nanoTime() - start);
+					result = this.results.poll(remaining, TimeUnit.NANOSECONDS);
+					if (result == null) {
+						throw new FunctionException("No function results end in " + timeout + " "
+								+ TimeUnit.MILLISECONDS);
+					}
+				}
+				else {
+					result = this.results.take();
+				}
+				if (result == this.endOfResults) {
+					break;
+				}
+				if (result instanceof Throwable throwable) {
+					throw new MessageHandlingException(requestMessage, "The function has failed", throwable);
+				}
+				if (pending != null) {
+					produceReply(requestMessage, pending, ++sequence, false);
+				}
+				pending = result;
+			}
+			if (pending != null) {
+				produceReply(requestMessage, pending, ++sequence, true);
+			}
+		}
+
+		private void produceReply(Message<?> requestMessage, Object payload, int sequence, boolean last) {
+			AbstractIntegrationMessageBuilder<?> builder =
+					getMessageBuilderFactory()
+							.withPayload(payload)
+							.setCorrelationId(requestMessage.getHeaders().getId())
+							.setSequenceNumber(sequence);
+			if (last) {
+				builder.setSequenceSize(sequence);
+			}
+			produceOutput(builder.build(), requestMessage);
+		}
+
+		@Override
+		public void addResult(DistributedMember memberID, Object resultOfSingleExecution) {
+			if (resultOfSingleExecution != null) {
+				this.results.add(resultOfSingleExecution);
+			}
+		}
+
+		@Override
+		public Object getResult() throws FunctionException {
+			return null;
+		}
+
+		@Override
+		public Object getResult(long timeout, TimeUnit unit) throws FunctionException {
+			return null;
+		}
+
+		@Override
+		public void endResults() {
+			this.results.add(this.endOfResults);
+		}
+
+		@Override
+		public void clearResults() {
+			// The function is re-executed - drop the chunks not produced yet
+			this.results.clear();
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2021 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,18 +18,28 @@ package org.springframework.integration.gemfire.store;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.List;
 
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.pdx.PdxInstance;
 
+import org.springframework.data.gemfire.GemfireTemplate;
 import org.springframework.integration.store.AbstractKeyValueMessageStore;
 import org.springframework.util.Assert;
-import org.springframework.util.PatternMatchUtils;
 
 /**
  * Gemfire implementation of the key/value style
  * {@link org.springframework.integration.store.MessageStore} and
  * {@link org.springframework.integration.store.MessageGroupStore}.
+ * <p>
+ * The keys listing (e.g. for the {@link #getMessageCount()} and {@link #getMessageGroupCount()})
+ * is performed by an OQL query against the region {@code keySet}, so the matching is done
+ * on the data members (or on the cache server for client regions) and only the matched keys
+ * are transferred to the caller.
+ * <p>
+ * The {@link MessageStorePdxSerializer} can be registered on the cache to store messages and
+ * group metadata in the PDX format. With the {@code read-serialized} cache option the
+ * retrieved {@link PdxInstance}s are deserialized by this store on demand.
  *
  * @author Mark Fisher
  * @author Oleg Zhurakousky
@@ -45,6 +55,10 @@ public class GemfireMessageStore extends AbstractKeyValueMessageStore {
 
 	private final Region<Object, Object> messageStoreRegion;
 
+	private final GemfireTemplate gemfireTemplate;
+
+	private final String listKeysQuery;
+
 	/**
 	 * Provides the region to be used for the message store. This is useful when
 	 * using a configured region. This is also required if using a client region
@@ -66,12 +80,15 @@ public class GemfireMessageStore extends AbstractKeyValueMessageStore {
 		super(prefix);
 		Assert.notNull(messageStoreRegion, "'messageStoreRegion' must not be null");
 		this.messageStoreRegion = messageStoreRegion;
+		this.gemfireTemplate = new GemfireTemplate(messageStoreRegion);
+		this.listKeysQuery =
+				"SELECT key FROM " + messageStoreRegion.getFullPath() + ".keySet key WHERE key LIKE $1";
 	}
 
 	@Override
 	protected Object doRetrieve(Object id) {
 		Assert.notNull(id, ID_MUST_NOT_BE_NULL);
-		return this.messageStoreRegion.get(id);
+		return deserialize(this.messageStoreRegion.get(id));
 	}
 
 	@Override
@@ -95,7 +112,7 @@ public class GemfireMessageStore extends AbstractKeyValueMessageStore {
 	@Override
 	protected Object doRemove(Object id) {
 		Assert.notNull(id, ID_MUST_NOT_BE_NULL);
-		return this.messageStoreRegion.remove(id);
+		return deserialize(this.messageStoreRegion.remove(id));
 	}
 
 	@Override
@@ -106,15 +123,38 @@ public class GemfireMessageStore extends AbstractKeyValueMessageStore {
 	@Override
 	protected Collection<?> doListKeys(String keyPattern) {
 		Assert.hasText(keyPattern, "'keyPattern' must not be empty");
-		Collection<Object> keys = this.messageStoreRegion.keySet();
-		List<Object> keyList = new ArrayList<Object>();
-		for (Object key : keys) {
-			String keyValue = key.toString();
-			if (PatternMatchUtils.simpleMatch(keyPattern, keyValue)) {
-				keyList.add(keyValue);
+		SelectResults<Object> keys = this.gemfireTemplate.find(this.listKeysQuery, toLikePattern(keyPattern));
+		return new ArrayList<>(keys.asList());
+	}
+
+	private static Object deserialize(Object value) {
+		return value instanceof PdxInstance ? ((PdxInstance) value).getObject() : value;
+	}
+
+	/**
+	 * Convert a simple {@code *} wildcard pattern into an OQL {@code LIKE} pattern.
+	 * The {@code %}, {@code _} and {@code \} characters of the original pattern
+	 * are escaped to be matched literally.
+	 * @param keyPattern the simple pattern to convert.
+	 * @return the OQL {@code LIKE} pattern.
+	 */
+	private static String toLikePattern(String keyPattern) {
+		StringBuilder likePattern = new StringBuilder(keyPattern.length() + 8);
+		for (char c : keyPattern.toCharArray()) {
+			switch (c) {
+				case '*':
+					likePattern.append('%');
+					break;
+				case '%':
+				case '_':
+				case '\\':
+					likePattern.append('\\').append(c);
+					break;
+				default:
+					likePattern.append(c);
 			}
 		}
-		return keyList;
+		return likePattern.toString();
 	}
 
 }
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.gemfire.store;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.apache.geode.pdx.PdxInstance;
+import org.apache.geode.pdx.PdxReader;
+import org.apache.geode.pdx.PdxSerializer;
+import org.apache.geode.pdx.PdxWriter;
+
+import org.springframework.integration.store.MessageGroupMetadata;
+import org.springframework.integration.store.SimpleMessageGroup;
+import org.springframework.integration.support.MutableMessage;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.GenericMessage;
+
+/**
+ * The {@link PdxSerializer} for the {@link GemfireMessageStore} types:
+ * {@link GenericMessage}, {@link MutableMessage} and {@link MessageGroupMetadata}.
+ * <p>
+ * The message is written as {@code id}, {@code timestamp}, {@code headers} and {@code payload}
+ * fields; the group metadata - as {@code groupId}, {@code messageIds}, {@code complete},
+ * {@code timestamp}, {@code lastModified}, {@code lastReleasedMessageSequenceNumber} and {@code condition}.
+ * These fields are visible for the OQL queries on the servers without deserializing
+ * the whole entry, e.g. {@code SELECT m.groupId FROM /messageStore m WHERE m.complete = false}.
+ * <p>
+ * Other types are delegated to the provided {@link PdxSerializer} (if any), since only one
+ * {@link PdxSerializer} can be registered on the cache. The headers and payload values are
+ * serialized by GemFire as usual, therefore they can be PDX instances themselves.
+ * <p>
+ * The {@link GenericMessage} is restored with immutable {@link MessageHeaders} carrying
+ * the original {@code id} and {@code timestamp}.
+ * <p>
+ * When the cache is configured with {@code read-serialized="true"}, the
+ * {@link GemfireMessageStore} deserializes the returned {@link PdxInstance}s on demand.
+ *
+ * @author agent
+ *
+ * @since 6.5
+ */
+public class MessageStorePdxSerializer implements PdxSerializer {
+
+	private static final String ID = "id";
+
+	private static final String TIMESTAMP = "timestamp";
+
+	private static final String HEADERS = "headers";
+
+	private static final String PAYLOAD = "payload";
+
+	private static final String GROUP_ID = "groupId";
+
+	private static final String MESSAGE_IDS = "messageIds";
+
+	private static final String COMPLETE = "complete";
+
+	private static final String LAST_MODIFIED = "lastModified";
+
+	private static final String LAST_RELEASED_SEQUENCE = "lastReleasedMessageSequenceNumber";
+
+	private static final String CONDITION = "condition";
+
+	private final PdxSerializer delegate;
+
+	public MessageStorePdxSerializer() {
+		this(null);
+	}
+
+	/**
+	 * Construct an instance with a {@link PdxSerializer} for other types, for example
+	 * the {@code ReflectionBasedAutoSerializer} for the message payloads.
+	 * @param delegate the {@link PdxSerializer} for non-message store types.
+	 */
+	public MessageStorePdxSerializer(PdxSerializer delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public boolean toData(Object o, PdxWriter out) {
+		Class<?> type = o.getClass();
+		if (GenericMessage.class.equals(type) || MutableMessage.class.equals(type)) {
+			writeMessage((Message<?>) o, out);
+			return true;
+		}
+		else if (MessageGroupMetadata.class.equals(type)) {
+			writeMessageGroupMetadata((MessageGroupMetadata) o, out);
+			return true;
+		}
+		return this.delegate != null && this.delegate.toData(o, out);
+	}
+
+	@Override
+	public Object fromData(Class<?> clazz, PdxReader in) {
+		if (GenericMessage.class.equals(clazz)) {
+			return new GenericMessage<>(in.readObject(PAYLOAD),
+					new StoredMessageHeaders(readStoredHeaders(in), UUID.fromString(in.readString(ID)),
+							in.readLong(TIMESTAMP)));
+		}
+		else if (MutableMessage.class.equals(clazz)) {
+			Map<String, Object> headers = new HashMap<>(readStoredHeaders(in));
+			headers.put(MessageHeaders.ID, UUID.fromString(in.readString(ID)));
+			headers.put(MessageHeaders.TIMESTAMP, in.readLong(TIMESTAMP));
+			return new MutableMessage<>(in.readObject(PAYLOAD), headers);
+		}
+		else if (MessageGroupMetadata.class.equals(clazz)) {
+			return readMessageGroupMetadata(in);
+		}
+		return this.delegate != null ? this.delegate.fromData(clazz, in) : null;
+	}
+
+	private static void writeMessage(Message<?> message, PdxWriter out) {
+		MessageHeaders headers = message.getHeaders();
+		Map<String, Object> headersToWrite = new HashMap<>(headers);
+		headersToWrite.remove(MessageHeaders.ID);
+		headersToWrite.remove(MessageHeaders.TIMESTAMP);
+		out.writeString(ID, headers.getId().toString())
+				.markIdentityField(ID)
+				.writeLong(TIMESTAMP, headers.getTimestamp())
+				.writeObject(HEADERS, headersToWrite)
+				.writeObject(PAYLOAD, message.getPayload());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> readStoredHeaders(PdxReader in) {
+		return (Map<String, Object>) in.readObject(HEADERS);
+	}
+
+	private static void writeMessageGroupMetadata(MessageGroupMetadata metadata, PdxWriter out) {
+		List<String> messageIds = new ArrayList<>(metadata.size());
+		Iterator<UUID> iterator = metadata.messageIdIterator();
+		while (iterator.hasNext()) {
+			messageIds.add(iterator.next().toString());
+		}
+		out.writeObject(GROUP_ID, metadata.getGroupId())
+				.markIdentityField(GROUP_ID)
+				.writeStringArray(MESSAGE_IDS, messageIds.toArray(new String[0]))
+				.writeBoolean(COMPLETE, metadata.isComplete())
+				.writeLong(TIMESTAMP, metadata.getTimestamp())
+				.writeLong(LAST_MODIFIED, metadata.getLastModified())
+				.writeInt(LAST_RELEASED_SEQUENCE, metadata.getLastReleasedMessageSequenceNumber())
+				.writeString(CONDITION, metadata.getCondition());
+	}
+
+	/**
+	 * Restore the {@link MessageGroupMetadata} through a {@link SimpleMessageGroup}, since the
+	 * {@link MessageGroupMetadata} has no public API to populate its message ids.
+	 * The group messages are only placeholders carrying the message ids: the
+	 * {@link MessageGroupMetadata} copies just their ids and the placeholders are discarded.
+	 * The {@code condition} is null for the entries written before it was added to the PDX fields.
+	 * @param in the reader.
+	 * @return the group metadata.
+	 */
+	private static MessageGroupMetadata readMessageGroupMetadata(PdxReader in) {
+		String[] messageIds = in.readStringArray(MESSAGE_IDS);
+		List<Message<?>> messages = new ArrayList<>(messageIds.length);
+		for (String messageId : messageIds) {
+			messages.add(new MutableMessage<>(Boolean.TRUE,
+					Collections.<String, Object>singletonMap(MessageHeaders.ID, UUID.fromString(messageId))));
+		}
+		SimpleMessageGroup group =
+				new SimpleMessageGroup(messages, in.readObject(GROUP_ID), in.readLong(TIMESTAMP),
+						in.readBoolean(COMPLETE));
+		group.setLastModified(in.readLong(LAST_MODIFIED));
+		group.setLastReleasedMessageSequenceNumber(in.readInt(LAST_RELEASED_SEQUENCE));
+		group.setCondition(in.readString(CONDITION));
+		return new MessageGroupMetadata(group);
+	}
+
+	/**
+	 * The immutable {@link MessageHeaders} restored with the stored {@code id} and {@code timestamp},
+	 * instead of generating new ones.
+	 */
+	private static final class StoredMessageHeaders extends MessageHeaders {
+
+		private static final long serialVersionUID = 1L;
+
+		StoredMessageHeaders(Map<String, Object> headers, UUID id, long timestamp) {
+			super(headers, id, timestamp);
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,40 +16,390 @@
 
 package org.springframework.integration.gemfire.util;
 
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.Scope;
 
+import org.springframework.integration.support.locks.ExpirableLockRegistry;
 import org.springframework.integration.support.locks.LockRegistry;
 import org.springframework.util.Assert;
 
 /**
  * Implementation of {@link LockRegistry} providing a distributed lock using Gemfire.
+ * <p>
+ * The distributed locks are cached in a bounded map (see {@link #setCacheCapacity(int)}),
+ * and the unused ones can be removed with the {@link #expireUnusedOlderThan(long)}.
+ * The locks which are currently held are never evicted from the cache.
+ * <p>
+ * Threads of the same JVM are queued on a local striped lock before requesting the
+ * distributed lock, so only one local thread per stripe waits in the distributed
+ * lock service. Note: like with the
+ * {@link org.springframework.integration.support.locks.DefaultLockRegistry}, keys mapped
+ * to the same stripe are serialized locally.
+ * <p>
+ * The acquire count, contended acquire count, acquire latency and hold time are
+ * exposed for monitoring.
  *
  * @author Artem Bilan
  * @since 4.0
  */
-public class GemfireLockRegistry implements LockRegistry {
+public class GemfireLockRegistry implements ExpirableLockRegistry {
 
 	public static final String LOCK_REGISTRY_REGION = "LockRegistry";
 
+	private static final int DEFAULT_MASK = 0xFF;
+
+	private static final int DEFAULT_CAPACITY = 30_000;
+
 	private final Region<?, ?> region;
 
+	private final Lock[] localLocks;
+
+	private final int mask;
+
+	private final Map<Object, GemfireLock> locks =
+			new LinkedHashMap<Object, GemfireLock>(16, 0.75F, true) {
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Object, GemfireLock> eldest) {
+					if (size() > GemfireLockRegistry.this.cacheCapacity) {
+						// Evict the least recently obtained lock which is not held; the just added one is the last
+						Iterator<GemfireLock> iterator = values().iterator();
+						for (int i = size() - 1; i > 0; i--) {
+							if (iterator.next().holds.get() == 0) {
+								iterator.remove();
+								break;
+							}
+						}
+					}
+					return false;
+				}
+
+			};
+
+	private final LongAdder acquireCount = new LongAdder();
+
+	private final LongAdder contendedCount = new LongAdder();
+
+	private final LongAdder totalAcquireNanos = new LongAdder();
+
+	private final LongAccumulator maxAcquireNanos = new LongAccumulator(Math::max, 0);
+
+	private final LongAdder totalHoldNanos = new LongAdder();
+
+	private final LongAccumulator maxHoldNanos = new LongAccumulator(Math::max, 0);
+
+	private volatile int cacheCapacity = DEFAULT_CAPACITY;
+
 	public GemfireLockRegistry(Cache cache) {
-		Assert.notNull(cache, "'cache' must not be null");
-		this.region = cache.createRegionFactory().setScope(Scope.GLOBAL).create(LOCK_REGISTRY_REGION);
+		this(createLockRegion(cache));
 	}
 
 	public GemfireLockRegistry(Region<?, ?> region) {
+		this(region, DEFAULT_MASK);
+	}
+
+	/**
+	 * Construct an instance based on the provided {@link Region} and the mask for the local
+	 * lock stripes. The number of stripes is {@code mask + 1}, so the mask must be a power of
+	 * 2 minus 1, e.g. {@code 0xFF} (the default) for 256 stripes.
+	 * @param region the region with {@code GLOBAL} scope for distributed locks.
+	 * @param mask the mask for the local lock stripes.
+	 * @since 6.5
+	 */
+	public GemfireLockRegistry(Region<?, ?> region, int mask) {
 		Assert.notNull(region, "'region' must not be null");
+		String bits = Integer.toBinaryString(mask);
+		Assert.isTrue(bits.length() < 32 && (mask == 0 || bits.lastIndexOf('0') < bits.indexOf('1')),
+				"Mask must be a power of 2 - 1");
 		this.region = region;
+		this.mask = mask;
+		this.localLocks = new Lock[mask + 1];
+		for (int i = 0; i <= mask; i++) {
+			this.localLocks[i] = new ReentrantLock();
+		}
+	}
+
+	private static Region<?, ?> createLockRegion(Cache cache) {
+		Assert.notNull(cache, "'cache' must not be null");
+		return cache.createRegionFactory().setScope(Scope.GLOBAL).create(LOCK_REGISTRY_REGION);
+	}
+
+	/**
+	 * Set the capacity of the cached locks. The least recently obtained locks which
+	 * are not held are evicted when the capacity is exceeded. Defaults to 30000.
+	 * @param cacheCapacity the capacity of the cached locks.
+	 * @since 6.5
+	 */
+	public void setCacheCapacity(int cacheCapacity) {
+		Assert.isTrue(cacheCapacity > 0, "'cacheCapacity' must be greater than 0");
+		this.cacheCapacity = cacheCapacity;
 	}
 
 	@Override
 	public Lock obtain(Object lockKey) {
-		return this.region.getDistributedLock(lockKey);
+		Assert.notNull(lockKey, "'lockKey' must not be null");
+		synchronized (this.locks) {
+			GemfireLock lock = this.locks.get(lockKey);
+			if (lock == null) {
+				lock = new GemfireLock(this.region.getDistributedLock(lockKey),
+						this.localLocks[lockKey.hashCode() & this.mask]);
+				this.locks.put(lockKey, lock);
+			}
+			return lock;
+		}
+	}
+
+	@Override
+	public void expireUnusedOlderThan(long age) {
+		long now = System.currentTimeMillis();
+		synchronized (this.locks) {
+			Iterator<GemfireLock> iterator = this.locks.values().iterator();
+			while (iterator.hasNext()) {
+				GemfireLock lock = iterator.next();
+				if (lock.holds.get() == 0 && now - lock.lastUsed > age) {
+					iterator.remove();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Return the number of successful lock acquisitions.
+	 * @return the number of acquisitions.
+	 * @since 6.5
+	 */
+	public long getAcquireCount() {
+		return this.acquireCount.sum();
+	}
+
+	/**
+	 * Return the number of lock acquisitions which had to wait for the local
+	 * or the distributed lock.
+	 * @return the number of contended acquisitions.
+	 * @since 6.5
+	 */
+	public long getContendedCount() {
+		return this.contendedCount.sum();
+	}
+
+	/**
+	 * Return the total time spent in successful lock acquisitions.
+	 * @param timeUnit the unit for the result.
+	 * @return the total acquire time.
+	 * @since 6.5
+	 */
+	public long getTotalAcquireTime(TimeUnit timeUnit) {
+		return timeUnit.convert(this.totalAcquireNanos.sum(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Return the max time spent in a successful lock acquisition.
+	 * @param timeUnit the unit for the result.
+	 * @return the max acquire time.
+	 * @since 6.5
+	 */
+	public long getMaxAcquireTime(TimeUnit timeUnit) {
+		return timeUnit.convert(this.maxAcquireNanos.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Return the total time the locks were held, from the lock acquisition
+	 * to the matching unlock.
+	 * @param timeUnit the unit for the result.
+	 * @return the total hold time.
+	 * @since 6.5
+	 */
+	public long getTotalHoldTime(TimeUnit timeUnit) {
+		return timeUnit.convert(this.totalHoldNanos.sum(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Return the max time a lock was held, from the lock acquisition
+	 * to the matching unlock.
+	 * @param timeUnit the unit for the result.
+	 * @return the max hold time.
+	 * @since 6.5
+	 */
+	public long getMaxHoldTime(TimeUnit timeUnit) {
+		return timeUnit.convert(this.maxHoldNanos.get(), TimeUnit.NANOSECONDS);
+	}
+
+	private void acquired(GemfireLock lock, long start, boolean contended) {
+		long now = System.nanoTime();
+		long time = now - start;
+		if (lock.holds.incrementAndGet() == 1) {
+			lock.lockedAt = now;
+		}
+		lock.lastUsed = System.currentTimeMillis();
+		this.acquireCount.increment();
+		if (contended) {
+			this.contendedCount.increment();
+		}
+		this.totalAcquireNanos.add(time);
+		this.maxAcquireNanos.accumulate(time);
+	}
+
+	private void released(GemfireLock lock) {
+		if (lock.holds.decrementAndGet() == 0) {
+			long time = System.nanoTime() - lock.lockedAt;
+			this.totalHoldNanos.add(time);
+			this.maxHoldNanos.accumulate(time);
+		}
+		lock.lastUsed = System.currentTimeMillis();
+	}
+
+	private final class GemfireLock implements Lock {
+
+		private final Lock distributedLock;
+
+		private final Lock localLock;
+
+		private final AtomicInteger holds = new AtomicInteger();
+
+		private volatile long lastUsed = System.currentTimeMillis();
+
+		private volatile long lockedAt;
+
+		GemfireLock(Lock distributedLock, Lock localLock) {
+			this.distributedLock = distributedLock;
+			this.localLock = localLock;
+		}
+
+		@Override
+		public void lock() {
+			long start = System.nanoTime();
+			boolean contended = false;
+			if (!this.localLock.tryLock()) {
+				contended = true;
+				this.localLock.lock();
+			}
+			try {
+				if (!this.distributedLock.tryLock()) {
+					contended = true;
+					this.distributedLock.lock();
+				}
+			}
+			catch (RuntimeException ex) {
+				this.localLock.unlock();
+				throw ex;
+			}
+			acquired(this, start, contended);
+		}
+
+		@Override
+		public void lockInterruptibly() throws InterruptedException {
+			long start = System.nanoTime();
+			boolean contended = false;
+			if (!this.localLock.tryLock()) {
+				contended = true;
+				this.localLock.lockInterruptibly();
+			}
+			try {
+				if (!this.distributedLock.tryLock()) {
+					contended = true;
+					this.distributedLock.lockInterruptibly();
+				}
+			}
+			catch (InterruptedException | RuntimeException ex) {
+				this.localLock.unlock();
+				throw ex;
+			}
+			acquired(this, start, contended);
+		}
+
+		@Override
+		public boolean tryLock() {
+			long start = System.nanoTime();
+			if (!this.localLock.tryLock()) {
+				return false;
+			}
+			boolean locked = false;
+			try {
+				locked = this.distributedLock.tryLock();
+			}
+			finally {
+				if (!locked) {
+					this.localLock.unlock();
+				}
+			}
+			if (locked) {
+				acquired(this, start, false);
+			}
+			return locked;
+		}
+
+		@Override
+		public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+			long start = System.nanoTime();
+			// Track the elapsed time instead of a deadline: 'start + timeout' overflows for very large timeouts
+			long timeout = unit.toNanos(time);
+			boolean contended = false;
+			if (!this.localLock.tryLock()) {
+				contended = true;
+				if (!this.localLock.tryLock(timeout, TimeUnit.NANOSECONDS)) {
+					return false;
+				}
+			}
+			boolean locked = false;
+			try {
+				locked = this.distributedLock.tryLock();
+				if (!locked) {
+					contended = true;
+					locked = this.distributedLock.tryLock(Math.max(0, timeout - (System.nanoTime() - start)),
+							TimeUnit.NANOSECONDS);
+				}
+			}
+			finally {
+				if (!locked) {
+					this.localLock.unlock();
+				}
+			}
+			if (locked) {
+				acquired(this, start, contended);
+			}
+			return locked;
+		}
+
+		@Override
+		public void unlock() {
+			try {
+				this.distributedLock.unlock();
+			}
+			catch (RuntimeException ex) {
+				// Still release the local lock, but report the distributed unlock failure
+				try {
+					unlockLocal();
+				}
+				catch (RuntimeException localEx) {
+					ex.addSuppressed(localEx);
+				}
+				throw ex;
+			}
+			unlockLocal();
+		}
+
+		private void unlockLocal() {
+			released(this);
+			this.localLock.unlock();
+		}
+
+		@Override
+		public Condition newCondition() {
+			throw new UnsupportedOperationException("Conditions are not supported");
+		}
+
 	}
 
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.gemfire.config.xml;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.expression.Expression;
+import org.springframework.integration.config.ConsumerEndpointFactoryBean;
+import org.springframework.integration.gemfire.outbound.GemfireFunctionOutboundGateway;
+import org.springframework.integration.test.util.TestUtils;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+
+/**
+ * @author agent
+ *
+ * @since 6.5
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration
+@DirtiesContext
+public class GemfireFunctionOutboundGatewayParserTests {
+
+	@Autowired
+	@Qualifier("gateway")
+	private ConsumerEndpointFactoryBean endpoint;
+
+	@Autowired
+	@Qualifier("gateway.handler")
+	private GemfireFunctionOutboundGateway gateway;
+
+	@Test
+	public void testGatewayIsConfigured() {
+		assertThat(this.endpoint.isAutoStartup()).isFalse();
+		assertThat(this.endpoint.getPhase()).isEqualTo(3);
+		assertThat(TestUtils.getPropertyValue(this.gateway, "functionId")).isEqualTo("orderTotals");
+		assertThat(TestUtils.getPropertyValue(this.gateway, "filterExpression", Expression.class)
+				.getExpressionString()).isEqualTo("payload.keys");
+		assertThat(TestUtils.getPropertyValue(this.gateway, "argumentsExpression", Expression.class)
+				.getExpressionString()).isEqualTo("payload.args");
+		assertThat(TestUtils.getPropertyValue(this.gateway, "resultTimeout")).isEqualTo(5000L);
+		assertThat(TestUtils.getPropertyValue(this.gateway, "streaming", Boolean.class)).isTrue();
+		assertThat(TestUtils.getPropertyValue(this.gateway, "messagingTemplate.sendTimeout")).isEqualTo(1000L);
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,13 @@ package org.springframework.integration.gemfire.inbound;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import org.apache.geode.cache.Region;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -154,6 +161,93 @@ public class CacheListeningMessageProducerTests {
 		producer.stop();
 	}
 
+	@Test
+	public void offThreadDispatchKeepsOrderPerKey() {
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		QueueChannel channel = new QueueChannel();
+		CacheListeningMessageProducer producer = new CacheListeningMessageProducer(region);
+		producer.setPayloadExpression(PARSER.parseExpression("key + '=' + newValue"));
+		producer.setOutputChannel(channel);
+		producer.setTaskExecutor(executorService);
+		producer.setConcurrency(4);
+		producer.setBeanFactory(mock(BeanFactory.class));
+		producer.afterPropertiesSet();
+		producer.start();
+
+		for (int i = 0; i < 100; i++) {
+			for (int k = 0; k < 8; k++) {
+				region.put("key" + k, Integer.toString(i));
+			}
+		}
+
+		Map<String, Integer> lastValues = new HashMap<>();
+		for (int n = 0; n < 800; n++) {
+			Message<?> message = channel.receive(10000);
+			assertThat(message).isNotNull();
+			String[] keyValue = ((String) message.getPayload()).split("=");
+			int value = Integer.parseInt(keyValue[1]);
+			Integer previous = lastValues.put(keyValue[0], value);
+			assertThat(value).isEqualTo(previous == null ? 0 : previous + 1);
+		}
+		assertThat(producer.getQueueSize()).isEqualTo(0);
+
+		producer.stop();
+		executorService.shutdown();
+		region.clear();
+	}
+
+	@Test
+	public void offThreadDispatchOverflowPolicies() {
+		List<Runnable> tasks = new ArrayList<>();
+		QueueChannel channel = new QueueChannel();
+		CacheListeningMessageProducer dropProducer = new CacheListeningMessageProducer(region);
+		dropProducer.setPayloadExpression(PARSER.parseExpression("newValue"));
+		dropProducer.setOutputChannel(channel);
+		dropProducer.setTaskExecutor(tasks::add);
+		dropProducer.setQueueCapacity(2);
+		dropProducer.setOverflowPolicy(OverflowPolicy.DROP);
+		dropProducer.setBeanFactory(mock(BeanFactory.class));
+		dropProducer.afterPropertiesSet();
+		dropProducer.start();
+
+		CacheListeningMessageProducer spillProducer = new CacheListeningMessageProducer(region);
+		spillProducer.setPayloadExpression(PARSER.parseExpression("newValue"));
+		spillProducer.setOutputChannel(channel);
+		spillProducer.setTaskExecutor(tasks::add);
+		spillProducer.setQueueCapacity(2);
+		spillProducer.setOverflowPolicy(OverflowPolicy.SPILL);
+		spillProducer.setBeanFactory(mock(BeanFactory.class));
+		spillProducer.afterPropertiesSet();
+		spillProducer.start();
+
+		for (int i = 0; i < 5; i++) {
+			region.put("overflow", Integer.toString(i));
+		}
+
+		assertThat(channel.receive(0)).isNull();
+		assertThat(dropProducer.getQueueSize()).isEqualTo(2);
+		assertThat(dropProducer.getDroppedCount()).isEqualTo(3);
+		assertThat(spillProducer.getQueueSize()).isEqualTo(5);
+		assertThat(spillProducer.getOverflowSize()).isEqualTo(3);
+		assertThat(spillProducer.getDroppedCount()).isEqualTo(0);
+
+		while (!tasks.isEmpty()) {
+			tasks.remove(0).run();
+		}
+
+		List<Object> payloads = new ArrayList<>();
+		Message<?> message;
+		while ((message = channel.receive(0)) != null) {
+			payloads.add(message.getPayload());
+		}
+		assertThat(payloads).containsExactlyInAnyOrder("0", "1", "0", "1", "2", "3", "4");
+		assertThat(spillProducer.getQueueSize()).isEqualTo(0);
+
+		dropProducer.stop();
+		spillProducer.stop();
+		region.clear();
+	}
+
 	private static void setRegionAttributes(GenericRegionFactoryBean<String, String> regionFactoryBean)
 			throws Exception {
 
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -19,6 +19,8 @@ package org.springframework.integration.gemfire.inbound;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 
+import java.util.Arrays;
+
 import org.apache.geode.cache.Operation;
 import org.apache.geode.cache.query.CqEvent;
 import org.apache.geode.cache.query.CqQuery;
@@ -33,6 +35,7 @@ import org.springframework.integration.channel.DirectChannel;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHandler;
 import org.springframework.messaging.MessagingException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 /**
  * @author David Turanski
@@ -83,6 +86,27 @@ public class ContinuousQueryMessageProducerTests {
 		assertThat(this.handler.payload).isEqualTo(cqEvent);
 	}
 
+	@Test
+	void testRegionEventTypes() {
+		this.cqMessageProducer.setSupportedEventTypes(CqEventType.REGION_CLEARED, CqEventType.REGION_INVALIDATED);
+		this.cqMessageProducer.onEvent(event(Operation.REGION_CLEAR, null));
+		this.cqMessageProducer.onEvent(event(Operation.REGION_INVALIDATE, null));
+		this.cqMessageProducer.onEvent(event(Operation.REGION_DESTROY, null));
+		this.cqMessageProducer.onEvent(event(Operation.CREATE, "hello"));
+		assertThat(this.handler.count).isEqualTo(2);
+	}
+
+	@Test
+	void testEventTypeOfOperation() {
+		assertThat(CqEventType.of(Operation.CREATE)).isEqualTo(CqEventType.CREATED);
+		assertThat(CqEventType.of(Operation.UPDATE)).isEqualTo(CqEventType.UPDATED);
+		assertThat(CqEventType.of(Operation.DESTROY)).isEqualTo(CqEventType.DESTROYED);
+		assertThat(CqEventType.of(Operation.REGION_CLEAR)).isEqualTo(CqEventType.REGION_CLEARED);
+		assertThat(CqEventType.of(Operation.REGION_INVALIDATE)).isEqualTo(CqEventType.REGION_INVALIDATED);
+		assertThat(CqEventType.of(Operation.REGION_DESTROY)).isNull();
+		assertThat(CqEventType.of(null)).isNull();
+	}
+
 	@Test
 	void testPayloadExpression() {
 		CqEvent cqEvent = event(Operation.CREATE, "hello");
@@ -93,15 +117,70 @@ public class ContinuousQueryMessageProducerTests {
 		assertThat(this.handler.payload).isEqualTo("HELLO, WORLD");
 	}
 
+	@Test
+	void testBatchConflatedByKey() {
+		this.cqMessageProducer.setPayloadExpression(PARSER.parseExpression("newValue"));
+		this.cqMessageProducer.setBatchSize(3);
+		this.cqMessageProducer.setConflateByKey(true);
+		this.cqMessageProducer.afterPropertiesSet();
+		this.cqMessageProducer.onEvent(event(Operation.CREATE, "a", "a1"));
+		this.cqMessageProducer.onEvent(event(Operation.CREATE, "b", "b1"));
+		this.cqMessageProducer.onEvent(event(Operation.UPDATE, "a", "a2"));
+		assertThat(this.handler.count).isEqualTo(0);
+		this.cqMessageProducer.onEvent(event(Operation.CREATE, "c", "c1"));
+		assertThat(this.handler.count).isEqualTo(1);
+		assertThat(this.handler.payload).isEqualTo(Arrays.asList("b1", "a2", "c1"));
+	}
+
+	@Test
+	void testConflatedBatchKeepsArrivalOrderOfUnkeyedEvents() {
+		this.cqMessageProducer.setPayloadExpression(PARSER.parseExpression("newValue"));
+		this.cqMessageProducer.setBatchSize(3);
+		this.cqMessageProducer.setConflateByKey(true);
+		this.cqMessageProducer.afterPropertiesSet();
+		this.cqMessageProducer.onEvent(event(Operation.CREATE, "a", "a1"));
+		this.cqMessageProducer.onEvent(event(Operation.REGION_CLEAR, null, "cleared"));
+		this.cqMessageProducer.onEvent(event(Operation.CREATE, "b", "b1"));
+		assertThat(this.handler.count).isEqualTo(1);
+		assertThat(this.handler.payload).isEqualTo(Arrays.asList("a1", "cleared", "b1"));
+	}
+
+	@Test
+	void testBatchOnTimeout() throws InterruptedException {
+		ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+		taskScheduler.afterPropertiesSet();
+		this.cqMessageProducer.setPayloadExpression(PARSER.parseExpression("newValue"));
+		this.cqMessageProducer.setBatchSize(100);
+		this.cqMessageProducer.setBatchTimeout(100);
+		this.cqMessageProducer.setTaskScheduler(taskScheduler);
+		this.cqMessageProducer.afterPropertiesSet();
+		this.cqMessageProducer.start();
+
+		this.cqMessageProducer.onEvent(event(Operation.CREATE, "a", "a1"));
+		this.cqMessageProducer.onEvent(event(Operation.UPDATE, "a", "a2"));
+
+		int n = 0;
+		while (this.handler.count == 0 && n++ < 100) {
+			Thread.sleep(100);
+		}
+		assertThat(this.handler.count).isEqualTo(1);
+		assertThat(this.handler.payload).isEqualTo(Arrays.asList("a1", "a2"));
+
+		this.cqMessageProducer.stop();
+		taskScheduler.destroy();
+	}
+
 	CqEvent event(final Operation operation, final Object value) {
+		return event(operation, new Object(), value);
+	}
+
+	CqEvent event(final Operation operation, final Object key, final Object value) {
 		return new CqEvent() {
 
 			final CqQuery cq = new ServerCQImpl();
 
 			final byte[] ba = new byte[0];
 
-			final Object key = new Object();
-
 			final Exception ex = new Exception();
 
 			public Operation getBaseOperation() {
@@ -117,7 +196,7 @@ public class ContinuousQueryMessageProducerTests {
 			}
 
 			public Object getKey() {
-				return this.key;
+				return key;
 			}
 
 			public Object getNewValue() {
@@ -137,9 +216,9 @@ public class ContinuousQueryMessageProducerTests {
 
 	private static class CqMessageHandler implements MessageHandler {
 
-		int count;
+		volatile int count;
 
-		Object payload;
+		volatile Object payload;
 
 		public void handleMessage(Message<?> message) throws MessagingException {
 			this.count++;
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2019 the original author or authors.
+ * Copyright 2017-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,13 +18,20 @@ package org.springframework.integration.gemfire.metadata;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.CacheFactory;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -155,4 +162,104 @@ public class GemfireMetadataStoreCacheListenerTests {
 		assertThat(actualValue.get()).isEqualTo(testNewValue);
 	}
 
+	@Test
+	public void testAsyncOrderedDispatch() throws InterruptedException {
+		Region<String, String> asyncRegion =
+				cache.<String, String>createRegionFactory(RegionShortcut.LOCAL).create("asyncMetaData");
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			GemfireMetadataStore asyncMetadataStore = new GemfireMetadataStore(asyncRegion);
+			asyncMetadataStore.setTaskExecutor(executor);
+
+			CountDownLatch release = new CountDownLatch(1);
+			CountDownLatch latch = new CountDownLatch(3);
+			List<String> events = new ArrayList<>();
+			Thread callerThread = Thread.currentThread();
+			AtomicReference<Thread> listenerThread = new AtomicReference<>();
+			asyncMetadataStore.addListener(new MetadataStoreListenerAdapter() {
+
+				@Override
+				public void onAdd(String key, String value) {
+					listenerThread.set(Thread.currentThread());
+					try {
+						release.await(10, TimeUnit.SECONDS);
+					}
+					catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					events.add("add:" + value);
+					latch.countDown();
+				}
+
+				@Override
+				public void onUpdate(String key, String newValue) {
+					events.add("update:" + newValue);
+					latch.countDown();
+				}
+
+				@Override
+				public void onRemove(String key, String oldValue) {
+					events.add("remove:" + oldValue);
+					latch.countDown();
+				}
+
+			});
+
+			asyncMetadataStore.put("key", "value");
+			asyncMetadataStore.put("key", "new-value");
+			asyncMetadataStore.remove("key");
+
+			assertThat(latch.getCount()).isEqualTo(3);
+			release.countDown();
+
+			assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+			assertThat(listenerThread.get()).isNotSameAs(callerThread);
+			assertThat(events).containsExactly("add:value", "update:new-value", "remove:new-value");
+		}
+		finally {
+			executor.shutdownNow();
+			asyncRegion.close();
+		}
+	}
+
+	@Test
+	public void testDispatchIsRescheduledAfterRejection() throws InterruptedException {
+		Region<String, String> rejectingRegion =
+				cache.<String, String>createRegionFactory(RegionShortcut.LOCAL).create("rejectingMetaData");
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			GemfireMetadataStore rejectingMetadataStore = new GemfireMetadataStore(rejectingRegion);
+			AtomicBoolean rejected = new AtomicBoolean();
+			rejectingMetadataStore.setTaskExecutor(task -> {
+				if (rejected.compareAndSet(false, true)) {
+					throw new RejectedExecutionException("test");
+				}
+				executor.execute(task);
+			});
+
+			CountDownLatch latch = new CountDownLatch(2);
+			List<String> events = new ArrayList<>();
+			rejectingMetadataStore.addListener(new MetadataStoreListenerAdapter() {
+
+				@Override
+				public void onAdd(String key, String value) {
+					events.add("add:" + value);
+					latch.countDown();
+				}
+
+			});
+
+			rejectingMetadataStore.put("key1", "value1");
+			rejectingMetadataStore.put("key2", "value2");
+
+			assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+			assertThat(rejected.get()).isTrue();
+			assertThat(events).containsExactly("add:value1", "add:value2");
+		}
+		finally {
+			executor.shutdownNow();
+			rejectingRegion.close();
+		}
+	}
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2014-2019 the original author or authors.
+ * Copyright 2014-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,11 +17,18 @@
 package org.springframework.integration.gemfire.metadata;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.assertj.core.api.Assertions.fail;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
 import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.CacheFactory;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.Scope;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -167,4 +174,55 @@ public class GemfireMetadataStoreTests {
 		assertThat(v).isEqualTo("Integration");
 	}
 
+	@Test
+	public void testBulkOperations() {
+		GemfireMetadataStore store = (GemfireMetadataStore) metadataStore;
+		Map<String, String> entries = new HashMap<>();
+		entries.put("bulk-1", "v1");
+		entries.put("bulk-2", "v2");
+		store.putAll(entries);
+
+		assertThat(region.get("bulk-1")).isEqualTo("v1");
+		assertThat(region.get("bulk-2")).isEqualTo("v2");
+
+		Map<String, String> moreEntries = new HashMap<>();
+		moreEntries.put("bulk-2", "other");
+		moreEntries.put("bulk-3", "v3");
+		Map<String, String> existing = store.putIfAbsentAll(moreEntries);
+
+		assertThat(existing).containsOnly(entry("bulk-2", "v2"));
+		assertThat(region.get("bulk-2")).isEqualTo("v2");
+		assertThat(region.get("bulk-3")).isEqualTo("v3");
+
+		assertThat(store.getAll(new HashSet<>(Arrays.asList("bulk-1", "bulk-3", "bulk-4"))))
+				.containsOnly(entry("bulk-1", "v1"), entry("bulk-3", "v3"));
+
+		store.removeAll(Arrays.asList("bulk-1", "bulk-2"));
+
+		assertThat(region.containsKey("bulk-1")).isFalse();
+		assertThat(region.containsKey("bulk-2")).isFalse();
+		assertThat(region.get("bulk-3")).isEqualTo("v3");
+	}
+
+	@Test
+	public void testPutIfAbsentAllOnGlobalRegion() {
+		Region<String, String> globalRegion = cache.<String, String>createRegionFactory()
+				.setScope(Scope.GLOBAL)
+				.create("globalMetadata");
+		try {
+			globalRegion.put("global-1", "v1");
+			GemfireMetadataStore store = new GemfireMetadataStore(globalRegion);
+			Map<String, String> entries = new HashMap<>();
+			entries.put("global-1", "other");
+			entries.put("global-2", "v2");
+
+			assertThat(store.putIfAbsentAll(entries)).containsOnly(entry("global-1", "v1"));
+			assertThat(globalRegion.get("global-1")).isEqualTo("v1");
+			assertThat(globalRegion.get("global-2")).isEqualTo("v2");
+		}
+		finally {
+			globalRegion.destroyRegion();
+		}
+	}
+
 }
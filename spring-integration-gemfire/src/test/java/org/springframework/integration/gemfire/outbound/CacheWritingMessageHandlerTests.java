@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,11 +17,15 @@
 package org.springframework.integration.gemfire.outbound;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Mockito.mock;
 
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.Region;
@@ -35,10 +39,14 @@ import org.springframework.beans.factory.BeanFactory;
 import org.springframework.data.gemfire.CacheFactoryBean;
 import org.springframework.expression.Expression;
 import org.springframework.expression.common.LiteralExpression;
+import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.integration.expression.ValueExpression;
 import org.springframework.integration.support.MessageBuilder;
+import org.springframework.integration.test.util.TestUtils;
 import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandlingException;
 import org.springframework.messaging.support.GenericMessage;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 /**
  * @author Mark Fisher
@@ -125,4 +133,152 @@ public class CacheWritingMessageHandlerTests {
 		assertThat(region.get("baz")).isEqualTo(10L);
 	}
 
+	@Test
+	public void cacheEntryExpressionsAreCompiled() {
+		CacheWritingMessageHandler handler = new CacheWritingMessageHandler(region);
+		handler.setCacheEntries(Collections.singletonMap("payload.toString()", "payload"));
+		handler.setBeanFactory(mock(BeanFactory.class));
+		handler.afterPropertiesSet();
+
+		for (int i = 0; i < 200; i++) {
+			handler.handleMessage(new GenericMessage<>("foo" + i));
+		}
+
+		Map<?, ?> expressions = TestUtils.getPropertyValue(handler, "cacheEntryExpressions", Map.class);
+		SpelExpression keyExpression = (SpelExpression) expressions.keySet().iterator().next();
+		assertThat(TestUtils.getPropertyValue(keyExpression, "compiledAst")).isNotNull();
+
+		handler.handleMessage(new GenericMessage<>(42));
+		assertThat(region.size()).isEqualTo(201);
+		assertThat(region.get("foo199")).isEqualTo("foo199");
+		assertThat(region.get("42")).isEqualTo(42);
+	}
+
+	@Test
+	public void batchWritesToCache() {
+		CacheWritingMessageHandler handler = new CacheWritingMessageHandler(region);
+		handler.setCacheEntries(Collections.singletonMap("payload.substring(0, 1)", "payload"));
+		handler.setBatchSize(3);
+		handler.setBeanFactory(mock(BeanFactory.class));
+		handler.afterPropertiesSet();
+
+		handler.handleMessage(new GenericMessage<>("a1"));
+		handler.handleMessage(new GenericMessage<>("b1"));
+		handler.handleMessage(new GenericMessage<>("a2"));
+		assertThat(region.size()).isEqualTo(0);
+
+		handler.handleMessage(new GenericMessage<>("c1"));
+		assertThat(region.size()).isEqualTo(3);
+		assertThat(region.get("a")).isEqualTo("a2");
+		assertThat(region.get("b")).isEqualTo("b1");
+		assertThat(region.get("c")).isEqualTo("c1");
+
+		handler.handleMessage(new GenericMessage<>("d1"));
+		assertThat(region.containsKey("d")).isFalse();
+
+		handler.destroy();
+		assertThat(region.get("d")).isEqualTo("d1");
+	}
+
+	@Test
+	public void batchWritesToCacheOnTimeoutAndExecutor() throws InterruptedException {
+		ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+		taskScheduler.afterPropertiesSet();
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+		CacheWritingMessageHandler handler = new CacheWritingMessageHandler(region);
+		handler.setBatchSize(100);
+		handler.setBatchTimeout(100);
+		handler.setTaskExecutor(executorService);
+		handler.setTaskScheduler(taskScheduler);
+		handler.setBeanFactory(mock(BeanFactory.class));
+		handler.afterPropertiesSet();
+
+		handler.handleMessage(new GenericMessage<>(Collections.singletonMap("foo", "bar")));
+		handler.handleMessage(new GenericMessage<>(Collections.singletonMap("foo", "baz")));
+
+		int n = 0;
+		while (!region.containsKey("foo") && n++ < 100) {
+			Thread.sleep(100);
+		}
+		assertThat(region.get("foo")).isEqualTo("baz");
+
+		handler.destroy();
+		executorService.shutdown();
+		taskScheduler.destroy();
+	}
+
+	@Test
+	public void batchesAreWrittenInOrderOnMultiThreadedExecutor() throws InterruptedException {
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+		CacheWritingMessageHandler handler = new CacheWritingMessageHandler(region);
+		handler.setBatchSize(2);
+		handler.setTaskExecutor(executorService);
+		handler.setBeanFactory(mock(BeanFactory.class));
+		handler.afterPropertiesSet();
+
+		for (int i = 0; i < 100; i++) {
+			Map<String, Integer> entries = new HashMap<>();
+			entries.put("counter", i);
+			entries.put("batch" + i, i);
+			handler.handleMessage(new GenericMessage<>(entries));
+		}
+
+		int n = 0;
+		while (!region.containsKey("batch99") && n++ < 100) {
+			Thread.sleep(100);
+		}
+		assertThat(region.get("batch99")).isEqualTo(99);
+		assertThat(region.get("counter")).isEqualTo(99);
+
+		handler.destroy();
+		executorService.shutdown();
+	}
+
+	@Test
+	public void rejectedBatchIsWrittenOnDestroy() {
+		CacheWritingMessageHandler handler = new CacheWritingMessageHandler(region);
+		handler.setBatchSize(2);
+		handler.setTaskExecutor(task -> {
+			throw new RejectedExecutionException("intentional");
+		});
+		handler.setBeanFactory(mock(BeanFactory.class));
+		handler.afterPropertiesSet();
+
+		handler.handleMessage(new GenericMessage<>(Collections.singletonMap("rejected1", 1)));
+		assertThatExceptionOfType(MessageHandlingException.class)
+				.isThrownBy(() -> handler.handleMessage(new GenericMessage<>(Collections.singletonMap("rejected2", 2))))
+				.withCauseInstanceOf(RejectedExecutionException.class);
+		assertThat(region.containsKey("rejected1")).isFalse();
+
+		handler.destroy();
+		assertThat(region.get("rejected1")).isEqualTo(1);
+		assertThat(region.get("rejected2")).isEqualTo(2);
+	}
+
+	@Test
+	public void destroyWaitsForBatchWrites() {
+		CacheWritingMessageHandler handler = new CacheWritingMessageHandler(region);
+		handler.setBatchSize(2);
+		handler.setTaskExecutor(task -> new Thread(() -> {
+			try {
+				Thread.sleep(200);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			task.run();
+		}).start());
+		handler.setBeanFactory(mock(BeanFactory.class));
+		handler.afterPropertiesSet();
+
+		handler.handleMessage(new GenericMessage<>(Collections.singletonMap("slow1", 1)));
+		handler.handleMessage(new GenericMessage<>(Collections.singletonMap("slow2", 2)));
+
+		handler.destroy();
+		assertThat(region.get("slow1")).isEqualTo(1);
+		assertThat(region.get("slow2")).isEqualTo(2);
+	}
+
 }
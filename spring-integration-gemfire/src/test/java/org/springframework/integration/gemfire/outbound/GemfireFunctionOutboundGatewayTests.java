@@ -0,0 +1,265 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.gemfire.outbound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.FunctionService;
+import org.apache.geode.cache.execute.RegionFunctionContext;
+import org.apache.geode.cache.partition.PartitionRegionHelper;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.data.gemfire.CacheFactoryBean;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.integration.IntegrationMessageHeaderAccessor;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandlingException;
+import org.springframework.messaging.support.GenericMessage;
+
+/**
+ * @author agent
+ *
+ * @since 6.5
+ */
+public class GemfireFunctionOutboundGatewayTests {
+
+	private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+
+	private static CacheFactoryBean cacheFactoryBean;
+
+	private static Region<Object, Object> region;
+
+	@BeforeClass
+	public static void startUp() throws Exception {
+		cacheFactoryBean = new CacheFactoryBean();
+		cacheFactoryBean.afterPropertiesSet();
+		Cache cache = (Cache) cacheFactoryBean.getObject();
+		region = cache.createRegionFactory(RegionShortcut.PARTITION).create("sig-function-tests");
+		for (int i = 0; i < 10; i++) {
+			region.put("key" + i, "value" + i);
+		}
+		FunctionService.registerFunction(new UpperCaseValuesFunction());
+	}
+
+	@AfterClass
+	public static void cleanUp() throws Exception {
+		FunctionService.unregisterFunction(UpperCaseValuesFunction.ID);
+		if (region != null) {
+			region.close();
+		}
+		if (cacheFactoryBean != null) {
+			cacheFactoryBean.destroy();
+		}
+	}
+
+	@Test
+	public void functionResultsAreGatheredIntoReply() {
+		GemfireFunctionOutboundGateway gateway =
+				new GemfireFunctionOutboundGateway(region, UpperCaseValuesFunction.ID);
+		gateway.setFilterExpression(PARSER.parseExpression("payload"));
+		gateway.setArgumentsExpression(PARSER.parseExpression("'!'"));
+		QueueChannel replyChannel = new QueueChannel();
+		gateway.setOutputChannel(replyChannel);
+		gateway.setBeanFactory(mock(BeanFactory.class));
+		gateway.afterPropertiesSet();
+
+		gateway.handleMessage(new GenericMessage<>(Arrays.asList("key1", "key3")));
+
+		Message<?> reply = replyChannel.receive(10000);
+		assertThat(reply).isNotNull();
+		assertThat(reply.getPayload()).isInstanceOf(List.class);
+		assertThat((List<?>) reply.getPayload()).containsExactlyInAnyOrder("VALUE1!", "VALUE3!");
+	}
+
+	@Test
+	public void functionResultsAreStreamedAsReplies() {
+		GemfireFunctionOutboundGateway gateway =
+				new GemfireFunctionOutboundGateway(region, new UpperCaseValuesFunction());
+		gateway.setFilterExpression(PARSER.parseExpression("payload"));
+		gateway.setArgumentsExpression(PARSER.parseExpression("''"));
+		gateway.setStreaming(true);
+		gateway.setResultTimeout(10000);
+		List<Message<?>> replies = new CopyOnWriteArrayList<>();
+		List<Thread> replyThreads = new CopyOnWriteArrayList<>();
+		gateway.setOutputChannel((message, timeout) -> {
+			replyThreads.add(Thread.currentThread());
+			return replies.add(message);
+		});
+		gateway.setBeanFactory(mock(BeanFactory.class));
+		gateway.afterPropertiesSet();
+
+		GenericMessage<List<String>> request = new GenericMessage<>(Arrays.asList("key2", "key4", "key6"));
+		gateway.handleMessage(request);
+
+		assertThat(replyThreads).containsOnly(Thread.currentThread());
+		List<Object> payloads = new ArrayList<>();
+		for (int i = 0; i < replies.size(); i++) {
+			IntegrationMessageHeaderAccessor headers = new IntegrationMessageHeaderAccessor(replies.get(i));
+			assertThat(headers.getCorrelationId()).isEqualTo(request.getHeaders().getId());
+			assertThat(headers.getSequenceNumber()).isEqualTo(i + 1);
+			assertThat(headers.getSequenceSize()).isEqualTo(i == replies.size() - 1 ? replies.size() : 0);
+			payloads.add(replies.get(i).getPayload());
+		}
+		assertThat(payloads).containsExactlyInAnyOrder("VALUE2", "VALUE4", "VALUE6");
+	}
+
+	@Test
+	public void functionExceptionFailsStreamingRequest() {
+		GemfireFunctionOutboundGateway gateway = new GemfireFunctionOutboundGateway(region, new FailingFunction());
+		gateway.setFilterExpression(PARSER.parseExpression("payload"));
+		gateway.setStreaming(true);
+		gateway.setResultTimeout(10000);
+		gateway.setOutputChannel(new QueueChannel());
+		gateway.setBeanFactory(mock(BeanFactory.class));
+		gateway.afterPropertiesSet();
+
+		assertThatExceptionOfType(MessageHandlingException.class)
+				.isThrownBy(() -> gateway.handleMessage(new GenericMessage<>("key1")))
+				.withStackTraceContaining("intentional");
+	}
+
+	@Test
+	public void functionWithoutResultProducesNoReply() throws InterruptedException {
+		for (boolean streaming : new boolean[] { false, true }) {
+			NoResultFunction function = new NoResultFunction();
+			GemfireFunctionOutboundGateway gateway = new GemfireFunctionOutboundGateway(region, function);
+			gateway.setFilterExpression(PARSER.parseExpression("payload"));
+			gateway.setStreaming(streaming);
+			gateway.setResultTimeout(-1);
+			gateway.setRequiresReply(false);
+			QueueChannel replyChannel = new QueueChannel();
+			gateway.setOutputChannel(replyChannel);
+			gateway.setBeanFactory(mock(BeanFactory.class));
+			gateway.afterPropertiesSet();
+
+			gateway.handleMessage(new GenericMessage<>("key1"));
+
+			assertThat(function.executed.await(10, TimeUnit.SECONDS)).isTrue();
+			assertThat(replyChannel.receive(0)).isNull();
+		}
+	}
+
+	private static class NoResultFunction implements Function<Object> {
+
+		private final CountDownLatch executed = new CountDownLatch(1);
+
+		NoResultFunction() {
+		}
+
+		@Override
+		public String getId() {
+			return "noResult";
+		}
+
+		@Override
+		public boolean hasResult() {
+			return false;
+		}
+
+		@Override
+		public boolean isHA() {
+			return false;
+		}
+
+		@Override
+		public void execute(FunctionContext<Object> context) {
+			this.executed.countDown();
+		}
+
+	}
+
+	private static class FailingFunction implements Function<Object> {
+
+		FailingFunction() {
+		}
+
+		@Override
+		public String getId() {
+			return "failing";
+		}
+
+		@Override
+		public boolean isHA() {
+			return false;
+		}
+
+		@Override
+		public void execute(FunctionContext<Object> context) {
+			context.getResultSender().sendException(new IllegalStateException("intentional"));
+			context.getResultSender().lastResult(null);
+		}
+
+	}
+
+	private static class UpperCaseValuesFunction implements Function<Object> {
+
+		static final String ID = "upperCaseValues";
+
+		UpperCaseValuesFunction() {
+		}
+
+		@Override
+		public String getId() {
+			return ID;
+		}
+
+		@Override
+		public boolean isHA() {
+			return false;
+		}
+
+		@Override
+		public void execute(FunctionContext<Object> context) {
+			RegionFunctionContext regionContext = (RegionFunctionContext) context;
+			Region<Object, Object> localData = PartitionRegionHelper.getLocalDataForContext(regionContext);
+			Set<?> keys = regionContext.getFilter();
+			Object suffix = context.getArguments();
+			Iterator<?> iterator = keys.iterator();
+			while (iterator.hasNext()) {
+				String result = ((String) localData.get(iterator.next())).toUpperCase() + suffix;
+				if (iterator.hasNext()) {
+					context.getResultSender().sendResult(result);
+				}
+				else {
+					context.getResultSender().lastResult(result);
+				}
+			}
+		}
+
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2020 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -18,6 +18,7 @@ package org.springframework.integration.gemfire.outbound;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -61,6 +62,9 @@ public class GemfireOutboundChannelAdapterTests {
 	@Autowired
 	MessageChannel cacheChainChannel;
 
+	@Autowired
+	MessageChannel cacheChannel3;
+
 
 	@BeforeEach
 	public void setUp() {
@@ -99,4 +103,14 @@ public class GemfireOutboundChannelAdapterTests {
 		assertThat(region1.get("foo")).isEqualTo("bar");
 	}
 
+	@Test
+	public void testBatchWrite() {
+		cacheChannel3.send(MessageBuilder.withPayload(Collections.singletonMap("foo", "bar")).build());
+		assertThat(region1.size()).isEqualTo(0);
+		cacheChannel3.send(MessageBuilder.withPayload(Collections.singletonMap("baz", "qux")).build());
+		assertThat(region1.size()).isEqualTo(2);
+		assertThat(region1.get("foo")).isEqualTo("bar");
+		assertThat(region1.get("baz")).isEqualTo("qux");
+	}
+
 }
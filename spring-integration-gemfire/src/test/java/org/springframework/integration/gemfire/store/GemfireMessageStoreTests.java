@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2019 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -140,6 +140,22 @@ public class GemfireMessageStoreTests {
 		assertThat(group.size()).isEqualTo(0);
 	}
 
+	@Test
+	public void testListKeysWithLikeCharactersInPrefix() {
+		GemfireMessageStore underscoreStore = new GemfireMessageStore(region, "a_");
+		GemfireMessageStore letterStore = new GemfireMessageStore(region, "ab");
+		GemfireMessageStore percentStore = new GemfireMessageStore(region, "a%");
+
+		underscoreStore.addMessagesToGroup("X", new GenericMessage<>("foo"));
+		letterStore.addMessagesToGroup("X", new GenericMessage<>("bar"));
+		letterStore.addMessagesToGroup("Y", new GenericMessage<>("baz"));
+		percentStore.addMessage(new GenericMessage<>("qux"));
+
+		assertThat(underscoreStore.getMessageGroupCount()).isEqualTo(1);
+		assertThat(letterStore.getMessageGroupCount()).isEqualTo(2);
+		assertThat(percentStore.getMessageGroupCount()).isEqualTo(0);
+	}
+
 	@Before
 	public void prepare() {
 		if (region != null) {
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.gemfire.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.pdx.PdxInstance;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.springframework.integration.store.MessageGroup;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.integration.support.MutableMessage;
+import org.springframework.integration.support.MutableMessageHeaders;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.GenericMessage;
+
+/**
+ * @author agent
+ *
+ * @since 6.5
+ */
+public class MessageStorePdxSerializerTests {
+
+	private static Cache cache;
+
+	private static Region<Object, Object> region;
+
+	@BeforeClass
+	public static void init() {
+		cache = new CacheFactory()
+				.setPdxSerializer(new MessageStorePdxSerializer())
+				.setPdxReadSerialized(true)
+				.create();
+		region = cache.createRegionFactory(RegionShortcut.PARTITION).create("pdxMessageStore");
+	}
+
+	@AfterClass
+	public static void cleanUp() {
+		if (region != null) {
+			region.close();
+		}
+		if (cache != null) {
+			cache.close();
+		}
+	}
+
+	@Before
+	public void prepare() {
+		region.keySet().forEach(region::remove);
+	}
+
+	@Test
+	public void testMessageAsPdx() {
+		GemfireMessageStore store = new GemfireMessageStore(region);
+		Message<?> message = MessageBuilder.withPayload("test").setHeader("foo", "bar").build();
+		store.addMessage(message);
+
+		Object stored = region.get("MESSAGE_" + message.getHeaders().getId());
+		assertThat(stored).isInstanceOf(PdxInstance.class);
+		PdxInstance pdxInstance = (PdxInstance) stored;
+		assertThat(pdxInstance.getField("id")).isEqualTo(message.getHeaders().getId().toString());
+		assertThat(pdxInstance.getField("payload")).isEqualTo("test");
+
+		Message<?> retrieved = store.getMessage(message.getHeaders().getId());
+		assertThat(retrieved).isEqualTo(message);
+		assertThat(retrieved.getHeaders().getTimestamp()).isEqualTo(message.getHeaders().getTimestamp());
+
+		Message<?> mutableMessage = new MutableMessage<>("mutable");
+		store.addMessage(mutableMessage);
+		retrieved = store.removeMessage(mutableMessage.getHeaders().getId());
+		assertThat(retrieved).isInstanceOf(MutableMessage.class);
+		assertThat(retrieved).isEqualTo(mutableMessage);
+	}
+
+	@Test
+	public void testGenericMessageHeadersAreImmutable() {
+		GemfireMessageStore store = new GemfireMessageStore(region);
+		Message<?> message = MessageBuilder.withPayload("test").setHeader("foo", "bar").build();
+		store.addMessage(message);
+
+		Message<?> retrieved = store.getMessage(message.getHeaders().getId());
+		assertThat(retrieved).isExactlyInstanceOf(GenericMessage.class);
+		MessageHeaders headers = retrieved.getHeaders();
+		assertThat(headers).isNotInstanceOf(MutableMessageHeaders.class);
+		assertThat(headers.getId()).isEqualTo(message.getHeaders().getId());
+		assertThat(headers.getTimestamp()).isEqualTo(message.getHeaders().getTimestamp());
+		assertThat(headers.get("foo")).isEqualTo("bar");
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> headers.put("foo", "baz"));
+	}
+
+	@Test
+	public void testMessageGroupAsPdx() throws Exception {
+		GemfireMessageStore store = new GemfireMessageStore(region);
+		Message<?> message1 = MessageBuilder.withPayload("foo").setCorrelationId("X").build();
+		Message<?> message2 = MessageBuilder.withPayload("bar").setCorrelationId("X").build();
+		store.addMessagesToGroup("X", message1, message2);
+		store.addMessagesToGroup("Y", MessageBuilder.withPayload("baz").setCorrelationId("Y").build());
+		store.setLastReleasedSequenceNumberForGroup("X", 3);
+		store.setGroupCondition("X", "payload == 'bar'");
+		store.completeGroup("X");
+
+		MessageGroup group = store.getMessageGroup("X");
+		assertThat(group.isComplete()).isTrue();
+		assertThat(group.getLastReleasedMessageSequenceNumber()).isEqualTo(3);
+		assertThat(group.getCondition()).isEqualTo("payload == 'bar'");
+		assertThat(group.getMessages()).containsExactly(message1, message2);
+		assertThat(store.getMessageGroup("Y").getCondition()).isNull();
+
+		SelectResults<?> completeGroups = (SelectResults<?>) cache.getQueryService()
+				.newQuery("SELECT m.groupId FROM /pdxMessageStore m WHERE m.complete = true")
+				.execute();
+		assertThat(completeGroups.asList()).containsExactly("X");
+
+		SelectResults<?> conditionGroups = (SelectResults<?>) cache.getQueryService()
+				.newQuery("SELECT m.groupId FROM /pdxMessageStore m WHERE m.condition = 'payload == ''bar'''")
+				.execute();
+		assertThat(conditionGroups.asList()).containsExactly("X");
+	}
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.gemfire.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.Region;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.springframework.data.gemfire.CacheFactoryBean;
+import org.springframework.integration.test.util.TestUtils;
+
+/**
+ * @author agent
+ *
+ * @since 6.5
+ */
+public class GemfireLockRegistryTests {
+
+	private static CacheFactoryBean cacheFactoryBean;
+
+	private static GemfireLockRegistry lockRegistry;
+
+	@BeforeClass
+	public static void startUp() throws Exception {
+		cacheFactoryBean = new CacheFactoryBean();
+		cacheFactoryBean.afterPropertiesSet();
+		lockRegistry = new GemfireLockRegistry((Cache) cacheFactoryBean.getObject());
+	}
+
+	@AfterClass
+	public static void cleanUp() throws Exception {
+		if (cacheFactoryBean != null) {
+			cacheFactoryBean.destroy();
+		}
+	}
+
+	@Test
+	public void testLocksAreCachedAndExpired() {
+		Lock lock1 = lockRegistry.obtain("foo");
+		assertThat(lockRegistry.obtain("foo")).isSameAs(lock1);
+
+		lock1.lock();
+		lockRegistry.expireUnusedOlderThan(-1);
+		assertThat(lockRegistry.obtain("foo")).isSameAs(lock1);
+
+		lock1.unlock();
+		lockRegistry.expireUnusedOlderThan(-1);
+		assertThat(TestUtils.getPropertyValue(lockRegistry, "locks", Map.class)).isEmpty();
+		assertThat(lockRegistry.obtain("foo")).isNotSameAs(lock1);
+	}
+
+	@Test
+	public void testHeldLocksAreNotEvicted() {
+		GemfireLockRegistry registry =
+				new GemfireLockRegistry(TestUtils.getPropertyValue(lockRegistry, "region", Region.class));
+		registry.setCacheCapacity(2);
+
+		Lock held = registry.obtain("held");
+		held.lock();
+		try {
+			Lock unused = registry.obtain("unused");
+			registry.obtain("other");
+			assertThat(registry.obtain("held")).isSameAs(held);
+			assertThat(registry.obtain("unused")).isNotSameAs(unused);
+		}
+		finally {
+			held.unlock();
+		}
+	}
+
+	@Test
+	public void testHoldTimeIsMeasured() throws Exception {
+		GemfireLockRegistry registry =
+				new GemfireLockRegistry(TestUtils.getPropertyValue(lockRegistry, "region", Region.class));
+
+		Lock lock = registry.obtain("qux");
+		lock.lock();
+		lock.lock();
+		Thread.sleep(50);
+		lock.unlock();
+		assertThat(registry.getTotalHoldTime(TimeUnit.NANOSECONDS)).isZero();
+		lock.unlock();
+
+		assertThat(registry.getMaxHoldTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(50);
+		assertThat(registry.getTotalHoldTime(TimeUnit.MILLISECONDS))
+				.isEqualTo(registry.getMaxHoldTime(TimeUnit.MILLISECONDS));
+	}
+
+	@Test
+	public void testContentionIsMeasured() throws Exception {
+		long acquired = lockRegistry.getAcquireCount();
+		long contended = lockRegistry.getContendedCount();
+
+		Lock lock = lockRegistry.obtain("bar");
+		lock.lock();
+
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		CountDownLatch started = new CountDownLatch(1);
+		Future<Boolean> otherThread = executorService.submit(() -> {
+			started.countDown();
+			Lock otherLock = lockRegistry.obtain("bar");
+			boolean locked = otherLock.tryLock(10, TimeUnit.SECONDS);
+			if (locked) {
+				otherLock.unlock();
+			}
+			return locked;
+		});
+
+		assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+		Thread.sleep(100);
+		lock.unlock();
+
+		assertThat(otherThread.get(10, TimeUnit.SECONDS)).isTrue();
+		assertThat(lockRegistry.getAcquireCount()).isEqualTo(acquired + 2);
+		assertThat(lockRegistry.getContendedCount()).isEqualTo(contended + 1);
+		assertThat(lockRegistry.getMaxAcquireTime(TimeUnit.MILLISECONDS)).isGreaterThan(0);
+
+		executorService.shutdown();
+	}
+
+	@Test
+	public void testTryLockFailsWhenDistributedLockIsHeldByOtherMember() throws Exception {
+		// Another registry over the same region has own local locks, like a registry on the other member
+		GemfireLockRegistry otherMemberRegistry =
+				new GemfireLockRegistry(TestUtils.getPropertyValue(lockRegistry, "region", Region.class));
+
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		CountDownLatch locked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Future<?> otherMember = executorService.submit(() -> {
+			Lock otherLock = otherMemberRegistry.obtain("baz");
+			otherLock.lock();
+			try {
+				locked.countDown();
+				release.await(10, TimeUnit.SECONDS);
+			}
+			finally {
+				otherLock.unlock();
+			}
+			return null;
+		});
+		assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+		long acquired = lockRegistry.getAcquireCount();
+		Lock lock = lockRegistry.obtain("baz");
+		assertThat(lock.tryLock()).isFalse();
+		assertThat(lock.tryLock(100, TimeUnit.MILLISECONDS)).isFalse();
+		assertThat(lockRegistry.getAcquireCount()).isEqualTo(acquired);
+
+		release.countDown();
+		otherMember.get(10, TimeUnit.SECONDS);
+
+		assertThat(lock.tryLock(Long.MAX_VALUE, TimeUnit.DAYS)).isTrue();
+		lock.unlock();
+		assertThat(lockRegistry.getAcquireCount()).isEqualTo(acquired + 1);
+
+		executorService.shutdown();
+	}
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.hazelcast.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.JoinConfig;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+
+/**
+ * A local cluster of embedded {@link HazelcastInstance}s for benchmarks.
+ * Members join only each other over the loopback interface.
+ *
+ * @author agent
+ *
+ * @since 6.5
+ */
+final class EmbeddedHazelcastCluster {
+
+	private final List<HazelcastInstance> members = new ArrayList<>();
+
+	EmbeddedHazelcastCluster(int size) {
+		String clusterName = "si-jmh-" + UUID.randomUUID();
+		for (int i = 0; i < size; i++) {
+			this.members.add(Hazelcast.newHazelcastInstance(config(clusterName)));
+		}
+	}
+
+	HazelcastInstance first() {
+		return this.members.get(0);
+	}
+
+	void shutdown() {
+		this.members.forEach(HazelcastInstance::shutdown);
+		this.members.clear();
+	}
+
+	private static Config config(String clusterName) {
+		Config config = new Config();
+		config.setClusterName(clusterName);
+		config.setProperty("hazelcast.logging.type", "none");
+		config.setProperty("hazelcast.phone.home.enabled", "false");
+		config.getCPSubsystemConfig().setCPMemberCount(0);
+		JoinConfig join = config.getNetworkConfig().getJoin();
+		join.getMulticastConfig().setEnabled(false);
+		join.getAutoDetectionConfig().setEnabled(false);
+		join.getTcpIpConfig().setEnabled(true).addMember("127.0.0.1");
+		return config;
+	}
+
+}
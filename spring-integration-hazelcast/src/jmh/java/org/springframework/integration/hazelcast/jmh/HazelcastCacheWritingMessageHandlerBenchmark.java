@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.hazelcast.jmh;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.IMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.integration.hazelcast.outbound.HazelcastCacheWritingMessageHandler;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.GenericMessage;
+
+/**
+ * The {@link HazelcastCacheWritingMessageHandler} benchmarks per payload type.
+ *
+ * @author agent
+ *
+ * @since 6.5
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HazelcastCacheWritingMessageHandlerBenchmark {
+
+	private static final int KEY_SPACE = 1024;
+
+	@Param({ "1", "3" })
+	int members;
+
+	@Param({ "raw", "entry", "map", "entryProcessor" })
+	String payloadType;
+
+	private final AtomicInteger counter = new AtomicInteger();
+
+	private EmbeddedHazelcastCluster cluster;
+
+	private IMap<Object, Object> map;
+
+	private HazelcastCacheWritingMessageHandler handler;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.cluster = new EmbeddedHazelcastCluster(this.members);
+		this.map = this.cluster.first().getMap("benchmarkMap");
+		this.handler = new HazelcastCacheWritingMessageHandler();
+		this.handler.setDistributedObject(this.map);
+		this.handler.setKeyExpression(new SpelExpressionParser().parseExpression("headers.key"));
+		if ("entryProcessor".equals(this.payloadType)) {
+			this.handler.setEntryProcessor(new IncrementEntryProcessor());
+		}
+		this.handler.setBeanFactory(new DefaultListableBeanFactory());
+		this.handler.afterPropertiesSet();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.cluster.shutdown();
+	}
+
+	@Benchmark
+	public void handleMessage() {
+		this.handler.handleMessage(nextMessage());
+	}
+
+	private Message<?> nextMessage() {
+		int key = Math.floorMod(this.counter.getAndIncrement(), KEY_SPACE);
+		Object payload =
+				switch (this.payloadType) {
+					case "entry" -> new AbstractMap.SimpleEntry<>(key, "value" + key);
+					case "map" -> {
+						Map<Object, Object> entries = new HashMap<>();
+						for (int i = 0; i < 10; i++) {
+							entries.put((key + i) % KEY_SPACE, "value" + key);
+						}
+						yield entries;
+					}
+					default -> "value" + key;
+				};
+		return new GenericMessage<>(payload, Map.of("key", key));
+	}
+
+	static class IncrementEntryProcessor implements EntryProcessor<Object, Object, Object> {
+
+		@Override
+		public Object process(Map.Entry<Object, Object> entry) {
+			Object value = entry.getValue();
+			entry.setValue(value instanceof Integer count ? count + 1 : 1);
+			return null;
+		}
+
+	}
+
+}
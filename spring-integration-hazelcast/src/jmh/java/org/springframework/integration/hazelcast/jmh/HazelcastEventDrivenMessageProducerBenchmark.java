@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.hazelcast.jmh;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.hazelcast.map.IMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.integration.channel.DirectChannel;
+import org.springframework.integration.hazelcast.CacheListeningPolicyType;
+import org.springframework.integration.hazelcast.inbound.HazelcastEventDrivenMessageProducer;
+
+/**
+ * The {@link HazelcastEventDrivenMessageProducer} end-to-end throughput benchmarks:
+ * from the {@link IMap} write to the message arrival in the output channel.
+ *
+ * @author agent
+ *
+ * @since 6.5
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HazelcastEventDrivenMessageProducerBenchmark {
+
+	private static final int BATCH_SIZE = 1000;
+
+	@Param({ "1", "3" })
+	int members;
+
+	@Param({ "SINGLE", "ALL" })
+	CacheListeningPolicyType listeningPolicy;
+
+	private EmbeddedHazelcastCluster cluster;
+
+	private IMap<Integer, String> map;
+
+	private HazelcastEventDrivenMessageProducer producer;
+
+	private volatile CountDownLatch latch;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.cluster = new EmbeddedHazelcastCluster(this.members);
+		this.map = this.cluster.first().getMap("benchmarkEventMap");
+
+		DirectChannel outputChannel = new DirectChannel();
+		outputChannel.subscribe((message) -> this.latch.countDown());
+
+		this.producer = new HazelcastEventDrivenMessageProducer(this.map);
+		this.producer.setCacheEventTypes("ADDED,UPDATED");
+		this.producer.setCacheListeningPolicy(this.listeningPolicy);
+		this.producer.setOutputChannel(outputChannel);
+		this.producer.setBeanFactory(new DefaultListableBeanFactory());
+		this.producer.afterPropertiesSet();
+		this.producer.start();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.producer.stop();
+		this.cluster.shutdown();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public void entryEventsToMessages() throws InterruptedException {
+		this.latch = new CountDownLatch(BATCH_SIZE);
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			this.map.setAsync(i, "value" + i);
+		}
+		if (!this.latch.await(30, TimeUnit.SECONDS)) {
+			throw new IllegalStateException("Not all the entry events have been received: " + this.latch.getCount());
+		}
+	}
+
+}
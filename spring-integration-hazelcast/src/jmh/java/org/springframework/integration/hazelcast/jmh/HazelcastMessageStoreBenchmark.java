@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.hazelcast.jmh;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.integration.hazelcast.store.HazelcastMessageStore;
+import org.springframework.integration.store.MessageGroup;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.GenericMessage;
+
+/**
+ * The {@link HazelcastMessageStore} message group operations benchmarks.
+ *
+ * @author agent
+ *
+ * @since 6.5
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HazelcastMessageStoreBenchmark {
+
+	@Param({ "1", "3" })
+	int members;
+
+	@Param({ "10", "1000" })
+	int groupSize;
+
+	private EmbeddedHazelcastCluster cluster;
+
+	private HazelcastMessageStore messageStore;
+
+	private Object groupId;
+
+	private Message<?> message;
+
+	@Setup(Level.Trial)
+	public void startCluster() {
+		this.cluster = new EmbeddedHazelcastCluster(this.members);
+		this.messageStore = new HazelcastMessageStore(this.cluster.first());
+	}
+
+	@Setup(Level.Iteration)
+	public void prepareGroup() {
+		this.groupId = UUID.randomUUID();
+		for (int i = 0; i < this.groupSize; i++) {
+			this.messageStore.addMessagesToGroup(this.groupId, new GenericMessage<>("payload" + i));
+		}
+		this.message = new GenericMessage<>("payload");
+	}
+
+	@TearDown(Level.Iteration)
+	public void removeGroup() {
+		this.messageStore.removeMessageGroup(this.groupId);
+	}
+
+	@TearDown(Level.Trial)
+	public void stopCluster() {
+		this.cluster.shutdown();
+	}
+
+	@Benchmark
+	public void addAndRemoveMessageFromGroup() {
+		Message<?> messageToStore = new GenericMessage<>(this.message.getPayload());
+		this.messageStore.addMessagesToGroup(this.groupId, messageToStore);
+		this.messageStore.removeMessagesFromGroup(this.groupId, messageToStore);
+	}
+
+	@Benchmark
+	public MessageGroup retrieveGroup() {
+		return this.messageStore.getMessageGroup(this.groupId);
+	}
+
+	@Benchmark
+	public Message<?> pollMessageFromGroup() {
+		this.messageStore.addMessagesToGroup(this.groupId, new GenericMessage<>(this.message.getPayload()));
+		return this.messageStore.pollMessageFromGroup(this.groupId);
+	}
+
+}
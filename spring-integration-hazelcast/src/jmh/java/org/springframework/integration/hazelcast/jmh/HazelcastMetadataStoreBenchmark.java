@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.hazelcast.jmh;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.integration.hazelcast.metadata.HazelcastMetadataStore;
+
+/**
+ * The {@link HazelcastMetadataStore} operations benchmarks.
+ *
+ * @author agent
+ *
+ * @since 6.5
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HazelcastMetadataStoreBenchmark {
+
+	private static final int KEY_SPACE = 1024;
+
+	private static final int BATCH_SIZE = 100;
+
+	@Param({ "1", "3" })
+	int members;
+
+	@Param({ "false", "true" })
+	boolean localCache;
+
+	private final AtomicInteger counter = new AtomicInteger();
+
+	private EmbeddedHazelcastCluster cluster;
+
+	private HazelcastMetadataStore metadataStore;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.cluster = new EmbeddedHazelcastCluster(this.members);
+		this.metadataStore = new HazelcastMetadataStore(this.cluster.first());
+		this.metadataStore.setLocalCache(this.localCache);
+		this.metadataStore.afterPropertiesSet();
+		for (int i = 0; i < KEY_SPACE; i++) {
+			this.metadataStore.put("key" + i, "value" + i);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.cluster.shutdown();
+	}
+
+	@Benchmark
+	public String get() {
+		return this.metadataStore.get(nextKey());
+	}
+
+	@Benchmark
+	public void put() {
+		this.metadataStore.put(nextKey(), "newValue");
+	}
+
+	@Benchmark
+	public String putIfAbsent() {
+		return this.metadataStore.putIfAbsent(nextKey(), "newValue");
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public void putAll() {
+		Map<String, String> entries = new HashMap<>();
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			entries.put(nextKey(), "batchValue");
+		}
+		this.metadataStore.putAll(entries);
+	}
+
+	private String nextKey() {
+		return "key" + Math.floorMod(this.counter.getAndIncrement(), KEY_SPACE);
+	}
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Provides the JMH benchmarks for the Hazelcast module hot paths.
+ */
+package org.springframework.integration.hazelcast.jmh;
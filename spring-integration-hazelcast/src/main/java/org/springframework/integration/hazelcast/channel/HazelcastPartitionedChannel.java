@@ -0,0 +1,274 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.hazelcast.channel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.hazelcast.collection.IQueue;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.partition.MigrationListener;
+import com.hazelcast.partition.MigrationState;
+import com.hazelcast.partition.Partition;
+import com.hazelcast.partition.PartitionService;
+import com.hazelcast.partition.ReplicaMigrationEvent;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.integration.channel.AbstractPollableChannel;
+import org.springframework.integration.expression.ExpressionUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link org.springframework.messaging.PollableChannel} implementation backed by a set
+ * of Hazelcast {@link IQueue}s - one per Hazelcast partition.
+ * <p>
+ * Each sent message is routed to the queue of the partition owning the key evaluated
+ * by the {@link #setPartitionKeyExpression(Expression)} (the message id by default),
+ * so all the messages for the same key are kept in order in the same queue.
+ * Each queue is pinned to its partition via the {@code name@partitionKey} naming convention.
+ * <p>
+ * The {@link #receive()} operations consume only from queues of partitions owned by the
+ * local member, therefore the same channel declared on every cluster member splits
+ * the work horizontally by key. The set of owned partitions is refreshed on the
+ * {@link MigrationListener} events, so consumers are rebalanced automatically
+ * when members join or leave the cluster.
+ *
+ * @author agent
+ *
+ * @since 6.5
+ */
+public class HazelcastPartitionedChannel extends AbstractPollableChannel implements DisposableBean {
+
+	private static final long DEFAULT_POLL_SLICE = 100;
+
+	private final HazelcastInstance hazelcastInstance;
+
+	private final String name;
+
+	private final AtomicInteger receiveIndex = new AtomicInteger();
+
+	private Expression partitionKeyExpression;
+
+	private boolean ownedPartitionsOnly = true;
+
+	private long pollSlice = DEFAULT_POLL_SLICE;
+
+	private EvaluationContext evaluationContext;
+
+	private PartitionService partitionService;
+
+	private List<IQueue<Message<?>>> queues;
+
+	private volatile int[] ownedPartitions = new int[0];
+
+	@Nullable
+	private volatile UUID migrationListenerId;
+
+	public HazelcastPartitionedChannel(HazelcastInstance hazelcastInstance, String name) {
+		Assert.notNull(hazelcastInstance, "'hazelcastInstance' must not be null");
+		Assert.hasText(name, "'name' must not be empty");
+		this.hazelcastInstance = hazelcastInstance;
+		this.name = name;
+	}
+
+	/**
+	 * Specify a SpEL {@link Expression} to evaluate a partition key against a sent message.
+	 * Defaults to the message id, if not provided or evaluated to {@code null}.
+	 * @param partitionKeyExpression the expression for partition key.
+	 */
+	public void setPartitionKeyExpression(Expression partitionKeyExpression) {
+		Assert.notNull(partitionKeyExpression, "'partitionKeyExpression' must not be null");
+		this.partitionKeyExpression = partitionKeyExpression;
+	}
+
+	/**
+	 * Whether to consume only partitions owned by the local member.
+	 * Set to {@code false} for Hazelcast client instances, which don't own any partitions.
+	 * Defaults to {@code true}.
+	 * @param ownedPartitionsOnly false to consume all the partitions.
+	 */
+	public void setOwnedPartitionsOnly(boolean ownedPartitionsOnly) {
+		this.ownedPartitionsOnly = ownedPartitionsOnly;
+	}
+
+	/**
+	 * The max time in milliseconds to block on a single partition queue
+	 * when nothing is found in the owned partitions and {@code receive(timeout)}
+	 * has time left. Defaults to 100 milliseconds.
+	 * @param pollSlice the poll slice time in milliseconds.
+	 */
+	public void setPollSlice(long pollSlice) {
+		Assert.isTrue(pollSlice > 0, "'pollSlice' must be greater than 0");
+		this.pollSlice = pollSlice;
+	}
+
+	/**
+	 * Return the ids of partitions currently consumed by this channel.
+	 * @return the consumed partition ids.
+	 */
+	public int[] getOwnedPartitions() {
+		return this.ownedPartitions.clone();
+	}
+
+	@Override
+	protected void onInit() {
+		super.onInit();
+		this.evaluationContext = ExpressionUtils.createStandardEvaluationContext(getBeanFactory());
+		this.partitionService = this.hazelcastInstance.getPartitionService();
+		int partitionCount = this.partitionService.getPartitions().size();
+		String[] partitionKeys = new String[partitionCount];
+		int found = 0;
+		for (int i = 0; found < partitionCount; i++) {
+			String candidate = Integer.toString(i);
+			int partitionId = this.partitionService.getPartition(candidate).getPartitionId();
+			if (partitionKeys[partitionId] == null) {
+				partitionKeys[partitionId] = candidate;
+				found++;
+			}
+		}
+		List<IQueue<Message<?>>> partitionQueues = new ArrayList<>(partitionCount);
+		for (int i = 0; i < partitionCount; i++) {
+			partitionQueues.add(this.hazelcastInstance.getQueue(this.name + '_' + i + '@' + partitionKeys[i]));
+		}
+		this.queues = partitionQueues;
+		this.migrationListenerId = this.partitionService.addMigrationListener(new PartitionMigrationListener());
+		refreshOwnedPartitions();
+	}
+
+	@Override
+	protected boolean doSend(Message<?> message, long timeout) {
+		Object partitionKey = null;
+		if (this.partitionKeyExpression != null) {
+			partitionKey = this.partitionKeyExpression.getValue(this.evaluationContext, message);
+		}
+		if (partitionKey == null) {
+			partitionKey = message.getHeaders().getId();
+		}
+		int partitionId = this.partitionService.getPartition(partitionKey).getPartitionId();
+		IQueue<Message<?>> queue = this.queues.get(partitionId);
+		try {
+			if (timeout > 0) {
+				return queue.offer(message, timeout, TimeUnit.MILLISECONDS);
+			}
+			else if (timeout == 0) {
+				return queue.offer(message);
+			}
+			else {
+				queue.put(message);
+				return true;
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new MessageDeliveryException(message, "Interrupted during sending to partition " + partitionId, ex);
+		}
+	}
+
+	@Override
+	@Nullable
+	protected Message<?> doReceive(long timeout) {
+		long deadline = timeout > 0 ? System.currentTimeMillis() + timeout : Long.MAX_VALUE;
+		try {
+			while (true) {
+				int[] partitions = this.ownedPartitions;
+				int start = Math.floorMod(this.receiveIndex.getAndIncrement(), Math.max(partitions.length, 1));
+				for (int i = 0; i < partitions.length; i++) {
+					Message<?> message = this.queues.get(partitions[(start + i) % partitions.length]).poll();
+					if (message != null) {
+						return message;
+					}
+				}
+				long remaining = deadline - System.currentTimeMillis();
+				if (timeout == 0 || remaining <= 0) {
+					return null;
+				}
+				long slice = Math.min(this.pollSlice, remaining);
+				if (partitions.length > 0) {
+					Message<?> message = this.queues.get(partitions[start]).poll(slice, TimeUnit.MILLISECONDS);
+					if (message != null) {
+						return message;
+					}
+				}
+				else {
+					Thread.sleep(slice);
+				}
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return null;
+		}
+	}
+
+	private void refreshOwnedPartitions() {
+		List<Integer> owned = new ArrayList<>();
+		for (Partition partition : this.partitionService.getPartitions()) {
+			if (!this.ownedPartitionsOnly
+					|| (partition.getOwner() != null && partition.getOwner().localMember())) {
+
+				owned.add(partition.getPartitionId());
+			}
+		}
+		this.ownedPartitions = owned.stream().mapToInt(Integer::intValue).toArray();
+		logger.debug(() -> "Partitions consumed by the channel '" + getComponentName() + "': " + owned);
+	}
+
+	@Override
+	public void destroy() {
+		UUID listenerId = this.migrationListenerId;
+		if (listenerId != null && this.hazelcastInstance.getLifecycleService().isRunning()) {
+			this.partitionService.removeMigrationListener(listenerId);
+		}
+		this.migrationListenerId = null;
+	}
+
+	private final class PartitionMigrationListener implements MigrationListener {
+
+		PartitionMigrationListener() {
+		}
+
+		@Override
+		public void migrationStarted(MigrationState state) {
+		}
+
+		@Override
+		public void migrationFinished(MigrationState state) {
+			refreshOwnedPartitions();
+		}
+
+		@Override
+		public void replicaMigrationCompleted(ReplicaMigrationEvent event) {
+			if (event.getReplicaIndex() == 0) {
+				refreshOwnedPartitions();
+			}
+		}
+
+		@Override
+		public void replicaMigrationFailed(ReplicaMigrationEvent event) {
+		}
+
+	}
+
+}
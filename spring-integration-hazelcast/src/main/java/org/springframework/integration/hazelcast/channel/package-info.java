@@ -0,0 +1,4 @@
+/**
+ * Provides the Hazelcast-backed Message Channel classes.
+ */
+package org.springframework.integration.hazelcast.channel;
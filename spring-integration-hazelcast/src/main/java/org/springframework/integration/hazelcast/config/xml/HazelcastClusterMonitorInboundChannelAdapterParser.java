@@ -16,6 +16,8 @@
 
 package org.springframework.integration.hazelcast.config.xml;
 
+import java.time.Duration;
+
 import org.w3c.dom.Element;
 
 import org.springframework.beans.factory.BeanDefinitionStoreException;
@@ -32,6 +34,7 @@ import org.springframework.util.StringUtils;
  * Parser for the {@code <int-hazelcast:cm-inbound-channel-adapter />} component.
  *
  * @author Eren Avsarogullari
+ * @author agent
  * @since 6.0
  */
 public class HazelcastClusterMonitorInboundChannelAdapterParser extends
@@ -43,6 +46,8 @@ public class HazelcastClusterMonitorInboundChannelAdapterParser extends
 
 	private static final String MONITOR_TYPES_ATTRIBUTE = "monitor-types";
 
+	private static final String SNAPSHOT_INTERVAL_ATTRIBUTE = "snapshot-interval";
+
 	private static final String OUTPUT_CHANNEL = "outputChannel";
 
 	private static final String MONITOR_EVENT_TYPES = "monitorEventTypes";
@@ -89,6 +94,14 @@ public class HazelcastClusterMonitorInboundChannelAdapterParser extends
 				.getAttribute(HAZELCAST_INSTANCE_ATTRIBUTE));
 		IntegrationNamespaceUtils.setValueIfAttributeDefined(builder, element,
 				MONITOR_TYPES_ATTRIBUTE, MONITOR_EVENT_TYPES);
+		String snapshotInterval = element.getAttribute(SNAPSHOT_INTERVAL_ATTRIBUTE);
+		if (StringUtils.hasText(snapshotInterval)) {
+			builder.addPropertyValue("snapshotInterval",
+					BeanDefinitionBuilder.genericBeanDefinition(Duration.class)
+							.setFactoryMethod("ofMillis")
+							.addConstructorArgValue(snapshotInterval)
+							.getBeanDefinition());
+		}
 		IntegrationNamespaceUtils.setValueIfAttributeDefined(builder, element,
 				IntegrationNamespaceUtils.AUTO_STARTUP);
 		IntegrationNamespaceUtils.setValueIfAttributeDefined(builder, element,
@@ -1,5 +1,5 @@
 /*
- * Copyright 2015-2022 the original author or authors.
+ * Copyright 2015-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -49,6 +49,8 @@ public class HazelcastContinuousQueryInboundChannelAdapterParser extends Abstrac
 
 	private static final String INCLUDE_VALUE_ATTRIBUTE = "include-value";
 
+	private static final String LAZY_PAYLOAD_ATTRIBUTE = "lazy-payload";
+
 	private static final String CACHE_LISTENING_POLICY_ATTRIBUTE = "cache-listening-policy";
 
 	private static final String OUTPUT_CHANNEL = "outputChannel";
@@ -101,6 +103,7 @@ public class HazelcastContinuousQueryInboundChannelAdapterParser extends Abstrac
 				.addConstructorArgValue(element.getAttribute(PREDICATE_ATTRIBUTE));
 		IntegrationNamespaceUtils.setValueIfAttributeDefined(builder, element, CACHE_EVENTS_ATTRIBUTE, CACHE_EVENT_TYPES);
 		IntegrationNamespaceUtils.setValueIfAttributeDefined(builder, element, INCLUDE_VALUE_ATTRIBUTE);
+		IntegrationNamespaceUtils.setValueIfAttributeDefined(builder, element, LAZY_PAYLOAD_ATTRIBUTE);
 		IntegrationNamespaceUtils.setValueIfAttributeDefined(builder, element, CACHE_LISTENING_POLICY_ATTRIBUTE);
 		IntegrationNamespaceUtils.setValueIfAttributeDefined(builder, element, IntegrationNamespaceUtils.AUTO_STARTUP);
 		IntegrationNamespaceUtils.setValueIfAttributeDefined(builder, element, IntegrationNamespaceUtils.PHASE);
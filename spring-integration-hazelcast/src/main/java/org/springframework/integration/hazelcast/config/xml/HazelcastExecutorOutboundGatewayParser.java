@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.hazelcast.config.xml;
+
+import org.w3c.dom.Element;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.xml.ParserContext;
+import org.springframework.integration.config.xml.AbstractConsumerEndpointParser;
+import org.springframework.integration.config.xml.IntegrationNamespaceUtils;
+import org.springframework.integration.hazelcast.outbound.HazelcastExecutorOutboundGateway;
+
+/**
+ * Hazelcast Executor Outbound Gateway Parser for
+ * {@code <int-hazelcast:executor-outbound-gateway />}.
+ *
+ * @author agent
+ * @since 6.5
+ */
+public class HazelcastExecutorOutboundGatewayParser extends AbstractConsumerEndpointParser {
+
+	private static final String EXECUTOR_SERVICE_ATTRIBUTE = "executor-service";
+
+	private static final String TASK_EXPRESSION_ATTRIBUTE = "task-expression";
+
+	private static final String KEY_EXPRESSION_ATTRIBUTE = "key-expression";
+
+	@Override
+	protected String getInputChannelAttributeName() {
+		return "request-channel";
+	}
+
+	@Override
+	protected BeanDefinitionBuilder parseHandler(Element element, ParserContext parserContext) {
+		BeanDefinitionBuilder builder =
+				BeanDefinitionBuilder.genericBeanDefinition(HazelcastExecutorOutboundGateway.class);
+
+		if (!element.hasAttribute(EXECUTOR_SERVICE_ATTRIBUTE)) {
+			parserContext.getReaderContext().error("'executor-service' attribute is required.", element);
+		}
+		builder.addConstructorArgReference(element.getAttribute(EXECUTOR_SERVICE_ATTRIBUTE));
+
+		BeanDefinition taskExpressionDef =
+				IntegrationNamespaceUtils.createExpressionDefIfAttributeDefined(TASK_EXPRESSION_ATTRIBUTE, element);
+		if (taskExpressionDef != null) {
+			builder.addPropertyValue("taskExpression", taskExpressionDef);
+		}
+
+		BeanDefinition keyExpressionDef =
+				IntegrationNamespaceUtils.createExpressionDefIfAttributeDefined(KEY_EXPRESSION_ATTRIBUTE, element);
+		if (keyExpressionDef != null) {
+			builder.addPropertyValue("keyExpression", keyExpressionDef);
+		}
+
+		IntegrationNamespaceUtils.setValueIfAttributeDefined(builder, element, "reply-timeout");
+		IntegrationNamespaceUtils.setValueIfAttributeDefined(builder, element, "async");
+		IntegrationNamespaceUtils.setValueIfAttributeDefined(builder, element, "requires-reply");
+		IntegrationNamespaceUtils.setReferenceIfAttributeDefined(builder, element, "reply-channel", "outputChannel");
+		IntegrationNamespaceUtils.setValueIfAttributeDefined(builder, element, "send-timeout");
+
+		return builder;
+	}
+
+}
@@ -33,6 +33,7 @@ public class HazelcastIntegrationNamespaceHandler extends AbstractIntegrationNam
 		registerBeanDefinitionParser("cq-inbound-channel-adapter", new HazelcastContinuousQueryInboundChannelAdapterParser());
 		registerBeanDefinitionParser("ds-inbound-channel-adapter", new HazelcastDistributedSQLInboundChannelAdapterParser());
 		registerBeanDefinitionParser("cm-inbound-channel-adapter", new HazelcastClusterMonitorInboundChannelAdapterParser());
+		registerBeanDefinitionParser("executor-outbound-gateway", new HazelcastExecutorOutboundGatewayParser());
 	}
 
 }
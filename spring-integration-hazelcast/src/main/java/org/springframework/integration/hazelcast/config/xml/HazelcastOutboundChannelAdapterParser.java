@@ -1,5 +1,5 @@
 /*
- * Copyright 2015 the original author or authors.
+ * Copyright 2015-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -31,6 +31,7 @@ import org.springframework.integration.hazelcast.outbound.HazelcastCacheWritingM
  * {@code <int-hazelcast:inbound-channel-adapter />}.
  *
  * @author Eren Avsarogullari
+ * @author agent
  * @since 6.0
  */
 public class HazelcastOutboundChannelAdapterParser extends AbstractOutboundChannelAdapterParser {
@@ -43,6 +44,12 @@ public class HazelcastOutboundChannelAdapterParser extends AbstractOutboundChann
 
 	private static final String EXTRACT_PAYLOAD_ATTRIBUTE = "extract-payload";
 
+	private static final String ENTRY_PROCESSOR_ATTRIBUTE = "entry-processor";
+
+	private static final String ENTRY_PROCESSOR_EXPRESSION_ATTRIBUTE = "entry-processor-expression";
+
+	private static final String ASYNC_ATTRIBUTE = "async";
+
 	private static final String DISTRIBUTED_OBJECT = "distributedObject";
 
 	@Override
@@ -65,6 +72,15 @@ public class HazelcastOutboundChannelAdapterParser extends AbstractOutboundChann
 
 		IntegrationNamespaceUtils.setValueIfAttributeDefined(builder, element, EXTRACT_PAYLOAD_ATTRIBUTE);
 
+		IntegrationNamespaceUtils.setReferenceIfAttributeDefined(builder, element, ENTRY_PROCESSOR_ATTRIBUTE);
+		BeanDefinition entryProcessorExpressionDef =
+				IntegrationNamespaceUtils.createExpressionDefIfAttributeDefined(ENTRY_PROCESSOR_EXPRESSION_ATTRIBUTE,
+						element);
+		if (entryProcessorExpressionDef != null) {
+			builder.addPropertyValue("entryProcessorExpression", entryProcessorExpressionDef);
+		}
+		IntegrationNamespaceUtils.setValueIfAttributeDefined(builder, element, ASYNC_ATTRIBUTE);
+
 		return builder.getBeanDefinition();
 	}
 
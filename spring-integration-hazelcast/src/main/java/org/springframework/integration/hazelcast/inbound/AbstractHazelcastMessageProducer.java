@@ -1,5 +1,5 @@
 /*
- * Copyright 2015-2024 the original author or authors.
+ * Copyright 2015-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -42,6 +42,7 @@ import org.springframework.integration.hazelcast.HazelcastHeaders;
 import org.springframework.integration.hazelcast.HazelcastIntegrationDefinitionValidator;
 import org.springframework.integration.hazelcast.HazelcastLocalInstanceRegistrar;
 import org.springframework.integration.hazelcast.message.EntryEventMessagePayload;
+import org.springframework.integration.hazelcast.message.LazyEntryEventMessagePayload;
 import org.springframework.messaging.Message;
 import org.springframework.util.Assert;
 
@@ -64,6 +65,8 @@ public abstract class AbstractHazelcastMessageProducer extends MessageProducerSu
 
 	private Set<String> cacheEvents = Collections.singleton(CacheEventType.ADDED.name());
 
+	private boolean lazyPayload;
+
 	public AbstractHazelcastMessageProducer(DistributedObject distributedObject) {
 		Assert.notNull(distributedObject, "'distributedObject' must not be null");
 		this.distributedObject = distributedObject;
@@ -91,6 +94,22 @@ public abstract class AbstractHazelcastMessageProducer extends MessageProducerSu
 		this.cacheListeningPolicy = cacheListeningPolicy;
 	}
 
+	/**
+	 * Set to {@code true} to produce a {@link LazyEntryEventMessagePayload} for entry events,
+	 * so the entry value and old value are deserialized only on the first access.
+	 * The lazy payload is not an {@link EntryEventMessagePayload}: the consumers must use its getters.
+	 * Defaults to {@code false}.
+	 * @param lazyPayload true to defer the entry values deserialization.
+	 * @since 6.5
+	 */
+	public void setLazyPayload(boolean lazyPayload) {
+		this.lazyPayload = lazyPayload;
+	}
+
+	protected boolean isLazyPayload() {
+		return this.lazyPayload;
+	}
+
 	protected UUID getHazelcastRegisteredEventListenerId() {
 		return this.hazelcastRegisteredEventListenerId;
 	}
@@ -207,7 +226,7 @@ public abstract class AbstractHazelcastMessageProducer extends MessageProducerSu
 
 		@Override
 		protected Message<?> toMessage(AbstractIMapEvent event) {
-			final Map<String, Object> headers = new HashMap<>();
+			final Map<String, Object> headers = new HashMap<>(4);
 			headers.put(HazelcastHeaders.EVENT_TYPE, event.getEventType().name());
 			headers.put(HazelcastHeaders.MEMBER, event.getMember().getSocketAddress(EndpointQualifier.MEMBER));
 			headers.put(HazelcastHeaders.CACHE_NAME, event.getName());
@@ -215,8 +234,11 @@ public abstract class AbstractHazelcastMessageProducer extends MessageProducerSu
 			if (event instanceof EntryEvent) {
 				@SuppressWarnings("unchecked")
 				EntryEvent<K, V> entryEvent = (EntryEvent<K, V>) event;
-				EntryEventMessagePayload<K, V> messagePayload = new EntryEventMessagePayload<>(entryEvent.getKey(),
-						entryEvent.getValue(), entryEvent.getOldValue());
+				Object messagePayload =
+						isLazyPayload()
+								? new LazyEntryEventMessagePayload<>(entryEvent)
+								: new EntryEventMessagePayload<>(entryEvent.getKey(), entryEvent.getValue(),
+										entryEvent.getOldValue());
 				return getMessageBuilderFactory().withPayload(messagePayload).copyHeaders(headers).build();
 			}
 			else if (event instanceof MapEvent mapEvent) {
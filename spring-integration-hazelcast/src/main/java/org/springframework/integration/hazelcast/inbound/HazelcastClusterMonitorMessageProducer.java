@@ -1,5 +1,5 @@
 /*
- * Copyright 2015-2022 the original author or authors.
+ * Copyright 2015-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,14 +16,20 @@
 
 package org.springframework.integration.hazelcast.inbound;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
 
 import com.hazelcast.client.Client;
 import com.hazelcast.client.ClientListener;
+import com.hazelcast.cluster.Member;
 import com.hazelcast.cluster.MembershipEvent;
 import com.hazelcast.cluster.MembershipListener;
 import com.hazelcast.core.DistributedObjectEvent;
@@ -38,12 +44,20 @@ import com.hazelcast.partition.ReplicaMigrationEvent;
 import org.springframework.integration.endpoint.MessageProducerSupport;
 import org.springframework.integration.hazelcast.ClusterMonitorType;
 import org.springframework.integration.hazelcast.HazelcastIntegrationDefinitionValidator;
+import org.springframework.integration.hazelcast.message.ClusterMonitorSnapshot;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
  * Hazelcast Cluster Monitor Event Driven Message Producer is a message producer which
  * enables {@link HazelcastClusterMonitorMessageProducer.HazelcastClusterMonitorListener}
  * listener in order to listen cluster related events and sends events to related channel.
+ * <p>
+ * When a {@link #setSnapshotInterval(Duration)} is provided, the events are not emitted
+ * one by one, but accumulated into an in-memory cluster state model, which is emitted
+ * as a {@link ClusterMonitorSnapshot} delta with the provided interval.
+ * No message is emitted for an interval without cluster changes.
+ * The changes accumulated since the last snapshot are emitted when the producer is stopped.
  *
  * @author Eren Avsarogullari
  * @author Artem Bilan
@@ -58,6 +72,14 @@ public class HazelcastClusterMonitorMessageProducer extends MessageProducerSuppo
 
 	private final Map<ClusterMonitorType, UUID> hazelcastRegisteredListenerIdMap = new ConcurrentHashMap<>(5);
 
+	private Duration snapshotInterval;
+
+	@Nullable
+	private volatile ClusterStateDelta clusterStateDelta;
+
+	@Nullable
+	private volatile ScheduledFuture<?> snapshotFuture;
+
 	public HazelcastClusterMonitorMessageProducer(HazelcastInstance hazelcastInstance) {
 		Assert.notNull(hazelcastInstance, "'hazelcastInstance' must not be null");
 		this.hazelcastInstance = hazelcastInstance;
@@ -70,10 +92,27 @@ public class HazelcastClusterMonitorMessageProducer extends MessageProducerSuppo
 		this.monitorTypes = types;
 	}
 
+	/**
+	 * Specify an interval to emit the accumulated cluster changes as a {@link ClusterMonitorSnapshot}
+	 * instead of a message per event.
+	 * @param snapshotInterval the interval between snapshots.
+	 * @since 6.5
+	 */
+	public void setSnapshotInterval(Duration snapshotInterval) {
+		Assert.isTrue(snapshotInterval != null && !snapshotInterval.isNegative() && !snapshotInterval.isZero(),
+				"'snapshotInterval' must be positive");
+		this.snapshotInterval = snapshotInterval;
+	}
+
 	@Override
 	protected void doStart() {
 		final HazelcastClusterMonitorListener clusterMonitorListener = new HazelcastClusterMonitorListener();
 
+		if (this.snapshotInterval != null) {
+			this.clusterStateDelta = new ClusterStateDelta();
+			this.snapshotFuture = getTaskScheduler().scheduleWithFixedDelay(this::emitSnapshot, this.snapshotInterval);
+		}
+
 		if (this.monitorTypes.contains(ClusterMonitorType.MEMBERSHIP.name())) {
 			final UUID registrationId = this.hazelcastInstance.getCluster()
 					.addMembershipListener(clusterMonitorListener);
@@ -107,6 +146,12 @@ public class HazelcastClusterMonitorMessageProducer extends MessageProducerSuppo
 
 	@Override
 	protected void doStop() {
+		ScheduledFuture<?> future = this.snapshotFuture;
+		if (future != null) {
+			future.cancel(false);
+			this.snapshotFuture = null;
+		}
+
 		if (this.hazelcastInstance.getLifecycleService().isRunning()) {
 			UUID id = this.hazelcastRegisteredListenerIdMap.remove(ClusterMonitorType.MEMBERSHIP);
 			if (id != null) {
@@ -133,6 +178,10 @@ public class HazelcastClusterMonitorMessageProducer extends MessageProducerSuppo
 				this.hazelcastInstance.getClientService().removeClientListener(id);
 			}
 		}
+
+		// Don't lose the changes accumulated since the last snapshot
+		emitSnapshot();
+		this.clusterStateDelta = null;
 	}
 
 	@Override
@@ -145,7 +194,146 @@ public class HazelcastClusterMonitorMessageProducer extends MessageProducerSuppo
 		if (logger.isDebugEnabled()) {
 			logger.debug("Received Cluster Monitor Event : " + event);
 		}
-		this.sendMessage(getMessageBuilderFactory().withPayload(event).build());
+		ClusterStateDelta delta = this.clusterStateDelta;
+		if (delta != null) {
+			delta.record(event);
+		}
+		else {
+			this.sendMessage(getMessageBuilderFactory().withPayload(event).build());
+		}
+	}
+
+	private void emitSnapshot() {
+		ClusterStateDelta delta = this.clusterStateDelta;
+		if (delta != null) {
+			ClusterMonitorSnapshot snapshot = delta.drain(this.hazelcastInstance);
+			if (snapshot != null) {
+				sendMessage(getMessageBuilderFactory().withPayload(snapshot).build());
+			}
+		}
+	}
+
+	/**
+	 * The in-memory model of cluster changes accumulated between snapshots.
+	 */
+	private static final class ClusterStateDelta {
+
+		private final Set<Member> membersAdded = new LinkedHashSet<>();
+
+		private final Set<Member> membersRemoved = new LinkedHashSet<>();
+
+		private final Set<Integer> partitionsMigrated = new LinkedHashSet<>();
+
+		private final Set<String> objectsCreated = new LinkedHashSet<>();
+
+		private final Set<String> objectsDestroyed = new LinkedHashSet<>();
+
+		private final List<LifecycleEvent.LifecycleState> lifecycleStates = new ArrayList<>();
+
+		private final Set<Client> clientsConnected = new LinkedHashSet<>();
+
+		private final Set<Client> clientsDisconnected = new LinkedHashSet<>();
+
+		private int failedMigrations;
+
+		private boolean changed;
+
+		ClusterStateDelta() {
+		}
+
+		synchronized void record(Object event) {
+			if (event instanceof MembershipEvent membershipEvent) {
+				Member member = membershipEvent.getMember();
+				if (membershipEvent.getEventType() == MembershipEvent.MEMBER_ADDED) {
+					if (!this.membersRemoved.remove(member)) {
+						this.membersAdded.add(member);
+					}
+				}
+				else if (!this.membersAdded.remove(member)) {
+					this.membersRemoved.add(member);
+				}
+			}
+			else if (event instanceof DistributedObjectEvent objectEvent) {
+				String object = objectEvent.getServiceName() + ':' + objectEvent.getObjectName();
+				if (objectEvent.getEventType() == DistributedObjectEvent.EventType.CREATED) {
+					if (!this.objectsDestroyed.remove(object)) {
+						this.objectsCreated.add(object);
+					}
+				}
+				else if (!this.objectsCreated.remove(object)) {
+					this.objectsDestroyed.add(object);
+				}
+			}
+			else if (event instanceof ReplicaMigrationEvent migrationEvent) {
+				if (!migrationEvent.isSuccess()) {
+					this.failedMigrations++;
+				}
+				else if (migrationEvent.getReplicaIndex() == 0) {
+					this.partitionsMigrated.add(migrationEvent.getPartitionId());
+				}
+			}
+			else if (event instanceof LifecycleEvent lifecycleEvent) {
+				this.lifecycleStates.add(lifecycleEvent.getState());
+			}
+			else {
+				// The MigrationState start/finish callbacks don't change the model
+				return;
+			}
+			this.changed = true;
+		}
+
+		synchronized void recordClient(Client client, boolean connected) {
+			if (connected) {
+				if (!this.clientsDisconnected.remove(client)) {
+					this.clientsConnected.add(client);
+				}
+			}
+			else if (!this.clientsConnected.remove(client)) {
+				this.clientsDisconnected.add(client);
+			}
+			this.changed = true;
+		}
+
+		@Nullable
+		synchronized ClusterMonitorSnapshot drain(HazelcastInstance hazelcastInstance) {
+			if (!this.changed) {
+				return null;
+			}
+			Set<Member> members =
+					hazelcastInstance.getLifecycleService().isRunning()
+							? new LinkedHashSet<>(hazelcastInstance.getCluster().getMembers())
+							: new LinkedHashSet<>();
+			ClusterMonitorSnapshot snapshot =
+					new ClusterMonitorSnapshot(
+							Collections.unmodifiableSet(members),
+							copyOf(this.membersAdded),
+							copyOf(this.membersRemoved),
+							copyOf(this.partitionsMigrated),
+							this.failedMigrations,
+							copyOf(this.objectsCreated),
+							copyOf(this.objectsDestroyed),
+							List.copyOf(this.lifecycleStates),
+							copyOf(this.clientsConnected),
+							copyOf(this.clientsDisconnected));
+			this.membersAdded.clear();
+			this.membersRemoved.clear();
+			this.partitionsMigrated.clear();
+			this.failedMigrations = 0;
+			this.objectsCreated.clear();
+			this.objectsDestroyed.clear();
+			this.lifecycleStates.clear();
+			this.clientsConnected.clear();
+			this.clientsDisconnected.clear();
+			this.changed = false;
+			return snapshot;
+		}
+
+		/**
+		 * Copy the set keeping the order of events, unlike the {@link Set#copyOf(java.util.Collection)}.
+		 */
+		private static <T> Set<T> copyOf(Set<T> set) {
+			return Collections.unmodifiableSet(new LinkedHashSet<>(set));
+		}
 
 	}
 
@@ -200,12 +388,22 @@ public class HazelcastClusterMonitorMessageProducer extends MessageProducerSuppo
 
 		@Override
 		public void clientConnected(Client client) {
-			processEvent(client);
+			processClientEvent(client, true);
 		}
 
 		@Override
 		public void clientDisconnected(Client client) {
-			processEvent(client);
+			processClientEvent(client, false);
+		}
+
+		private void processClientEvent(Client client, boolean connected) {
+			ClusterStateDelta delta = HazelcastClusterMonitorMessageProducer.this.clusterStateDelta;
+			if (delta != null) {
+				delta.recordClient(client, connected);
+			}
+			else {
+				processEvent(client);
+			}
 		}
 
 	}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2015-2023 the original author or authors.
+ * Copyright 2015-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -51,10 +51,24 @@ import org.springframework.util.Assert;
  */
 public class HazelcastEventDrivenMessageProducer extends AbstractHazelcastMessageProducer {
 
+	private boolean includeValue = true;
+
 	public HazelcastEventDrivenMessageProducer(DistributedObject distributedObject) {
 		super(distributedObject);
 	}
 
+	/**
+	 * Set to {@code false} to register the entry listener without values,
+	 * when the flow needs only keys of entry events.
+	 * Applicable only for {@link IMap} and {@link MultiMap}.
+	 * Defaults to {@code true}.
+	 * @param includeValue false to not include values into events.
+	 * @since 6.5
+	 */
+	public void setIncludeValue(boolean includeValue) {
+		this.includeValue = includeValue;
+	}
+
 	@Override
 	protected void onInit() {
 		super.onInit();
@@ -66,11 +80,11 @@ public class HazelcastEventDrivenMessageProducer extends AbstractHazelcastMessag
 	protected void doStart() {
 		if (this.distributedObject instanceof IMap) {
 			setHazelcastRegisteredEventListenerId(((IMap<?, ?>) this.distributedObject)
-					.addEntryListener(new HazelcastEntryListener(), true));
+					.addEntryListener(new HazelcastEntryListener(), this.includeValue));
 		}
 		else if (this.distributedObject instanceof MultiMap) {
 			setHazelcastRegisteredEventListenerId(((MultiMap<?, ?>) this.distributedObject)
-					.addEntryListener(new HazelcastEntryListener(), true));
+					.addEntryListener(new HazelcastEntryListener(), this.includeValue));
 		}
 		else if (this.distributedObject instanceof ReplicatedMap) {
 			setHazelcastRegisteredEventListenerId(((ReplicatedMap<?, ?>) this.distributedObject)
@@ -149,7 +163,7 @@ public class HazelcastEventDrivenMessageProducer extends AbstractHazelcastMessag
 
 		@Override
 		protected org.springframework.messaging.Message<?> toMessage(ItemEvent<E> event) {
-			final Map<String, Object> headers = new HashMap<>();
+			final Map<String, Object> headers = new HashMap<>(4);
 			headers.put(HazelcastHeaders.EVENT_TYPE, event.getEventType().name());
 			headers.put(HazelcastHeaders.MEMBER, event.getMember().getSocketAddress(EndpointQualifier.MEMBER));
 
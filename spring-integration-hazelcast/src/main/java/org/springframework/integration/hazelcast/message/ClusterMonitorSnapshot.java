@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.hazelcast.message;
+
+import java.util.List;
+import java.util.Set;
+
+import com.hazelcast.client.Client;
+import com.hazelcast.cluster.Member;
+import com.hazelcast.core.LifecycleEvent;
+
+/**
+ * Hazelcast Message Payload for the cluster monitor delta snapshots.
+ * Represents the current member set and the cluster changes accumulated
+ * since the previous snapshot. The sets are in the order of the events.
+ *
+ * @param members the current cluster members.
+ * @param membersAdded the members joined since the previous snapshot.
+ * @param membersRemoved the members left since the previous snapshot.
+ * @param partitionsMigrated the ids of partitions whose primary replica has been migrated.
+ * @param failedMigrations the number of failed replica migrations.
+ * @param objectsCreated the created distributed objects as {@code serviceName:objectName}.
+ * @param objectsDestroyed the destroyed distributed objects as {@code serviceName:objectName}.
+ * @param lifecycleStates the lifecycle state changes in order.
+ * @param clientsConnected the clients connected since the previous snapshot.
+ * @param clientsDisconnected the clients disconnected since the previous snapshot.
+ *
+ * @author agent
+ *
+ * @since 6.5
+ */
+public record ClusterMonitorSnapshot(Set<Member> members, Set<Member> membersAdded, Set<Member> membersRemoved,
+		Set<Integer> partitionsMigrated, int failedMigrations, Set<String> objectsCreated, Set<String> objectsDestroyed,
+		List<LifecycleEvent.LifecycleState> lifecycleStates, Set<Client> clientsConnected,
+		Set<Client> clientsDisconnected) {
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2015-2022 the original author or authors.
+ * Copyright 2015-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -53,6 +53,33 @@ public class EntryEventMessagePayload<K, V> {
 		this.oldValue = oldValue;
 	}
 
+	/**
+	 * Return the entry key.
+	 * @return the entry key.
+	 * @since 6.5
+	 */
+	public K getKey() {
+		return this.key;
+	}
+
+	/**
+	 * Return the entry value.
+	 * @return the entry value.
+	 * @since 6.5
+	 */
+	public V getValue() {
+		return this.value;
+	}
+
+	/**
+	 * Return the entry old value if any.
+	 * @return the entry old value.
+	 * @since 6.5
+	 */
+	public V getOldValue() {
+		return this.oldValue;
+	}
+
 	@Override
 	public String toString() {
 		return "EntryEventMessagePayload [key=" + this.key + ", value=" + this.value + ", oldValue=" + this.oldValue + "]";
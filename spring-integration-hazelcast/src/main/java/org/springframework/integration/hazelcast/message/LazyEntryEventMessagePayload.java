@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.hazelcast.message;
+
+import java.util.Arrays;
+
+import com.hazelcast.core.EntryEvent;
+import com.hazelcast.map.impl.DataAwareEntryEvent;
+
+/**
+ * Hazelcast Message Payload for Entry Events which defers the entry value and old value
+ * deserialization to the first {@link #getValue()} or {@link #getOldValue()} call.
+ * <p>
+ * The Hazelcast {@link EntryEvent} keeps the values in their serialized form until they are requested,
+ * so a flow routing only by key doesn't pay for the values deserialization.
+ * <p>
+ * Unlike {@link EntryEventMessagePayload}, this payload has no public fields:
+ * the getters (used by SpEL property access as well, e.g. {@code payload.value}) must be used.
+ * This payload is not serializable and has to be consumed in the listener JVM.
+ * Two payloads are equal when their events carry the same serialized key, value and old value,
+ * so the comparison doesn't deserialize the values.
+ *
+ * @param <K> the entry key type
+ * @param <V> the entry value type
+ *
+ * @author agent
+ *
+ * @since 6.5
+ */
+public class LazyEntryEventMessagePayload<K, V> {
+
+	private final EntryEvent<K, V> entryEvent;
+
+	public LazyEntryEventMessagePayload(EntryEvent<K, V> entryEvent) {
+		this.entryEvent = entryEvent;
+	}
+
+	/**
+	 * Return the entry key.
+	 * @return the entry key.
+	 */
+	public K getKey() {
+		return this.entryEvent.getKey();
+	}
+
+	/**
+	 * Return the entry value, deserialized on the first call.
+	 * @return the entry value.
+	 */
+	public V getValue() {
+		return this.entryEvent.getValue();
+	}
+
+	/**
+	 * Return the entry old value if any, deserialized on the first call.
+	 * @return the entry old value.
+	 */
+	public V getOldValue() {
+		return this.entryEvent.getOldValue();
+	}
+
+	/**
+	 * Deserialize the values and return them as an {@link EntryEventMessagePayload}.
+	 * @return the eager payload for this entry event.
+	 */
+	public EntryEventMessagePayload<K, V> toEntryEventMessagePayload() {
+		return new EntryEventMessagePayload<>(getKey(), getValue(), getOldValue());
+	}
+
+	@Override
+	public String toString() {
+		return "LazyEntryEventMessagePayload [key=" + getKey() + "]";
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o == null || getClass() != o.getClass()) {
+			return false;
+		}
+
+		LazyEntryEventMessagePayload<?, ?> that = (LazyEntryEventMessagePayload<?, ?>) o;
+
+		return Arrays.equals(identity(), that.identity());
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(identity());
+	}
+
+	/**
+	 * Return the serialized key, value and old value of the entry event to compare the payloads
+	 * without deserializing the values. The deserialized values are used only for an event
+	 * which doesn't expose the serialized form.
+	 * @return the key, value and old value.
+	 */
+	private Object[] identity() {
+		if (this.entryEvent instanceof DataAwareEntryEvent<K, V> dataAwareEntryEvent) {
+			return new Object[] { dataAwareEntryEvent.getKeyData(), dataAwareEntryEvent.getNewValueData(),
+					dataAwareEntryEvent.getOldValueData() };
+		}
+		return new Object[] { getKey(), getValue(), getOldValue() };
+	}
+
+}
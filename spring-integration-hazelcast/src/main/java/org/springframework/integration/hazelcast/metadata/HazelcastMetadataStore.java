@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2022 the original author or authors.
+ * Copyright 2017-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,35 +16,80 @@
 
 package org.springframework.integration.hazelcast.metadata;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import com.hazelcast.core.EntryEvent;
 import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.EntryProcessor;
 import com.hazelcast.map.IMap;
+import com.hazelcast.map.MapEvent;
 import com.hazelcast.map.listener.EntryAddedListener;
+import com.hazelcast.map.listener.EntryEvictedListener;
+import com.hazelcast.map.listener.EntryExpiredListener;
 import com.hazelcast.map.listener.EntryRemovedListener;
 import com.hazelcast.map.listener.EntryUpdatedListener;
+import com.hazelcast.map.listener.MapClearedListener;
+import com.hazelcast.map.listener.MapEvictedListener;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.integration.metadata.ListenableMetadataStore;
 import org.springframework.integration.metadata.MetadataStoreListener;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
  * The Hazelcast {@link IMap}-based {@link ListenableMetadataStore} implementation.
+ * <p>
+ * An optional local read-through cache can be enabled via {@link #setLocalCache(boolean)}.
+ * The cache is kept coherent with the cluster by the same entry listener which is used
+ * for the {@link MetadataStoreListener} notifications. While a key is read or written
+ * remotely, a reservation token is kept in the cache for this key; the value is cached
+ * only if the token has not been replaced or removed by an entry event for the same key
+ * in the meantime, so a stale value can't overwrite a newer one.
+ * The cache size is bounded by {@link #setLocalCacheCapacity(int)}.
+ * <p>
+ * The {@link #putAll(Map)}, {@link #getAll(Set)} and {@code *Async} variants
+ * let bulk operations (e.g. file filters marking many keys at once) avoid a remote
+ * round-trip per key.
  *
  * @author Vinicius Carvalho
  * @author Artem Bilan
  */
-public class HazelcastMetadataStore implements ListenableMetadataStore, InitializingBean {
+public class HazelcastMetadataStore implements ListenableMetadataStore, InitializingBean, DisposableBean {
 
 	private static final String METADATA_STORE_MAP_NAME = "SPRING_INTEGRATION_METADATA_STORE";
 
+	private static final int DEFAULT_LOCAL_CACHE_CAPACITY = 10_000;
+
 	private final IMap<String, String> map;
 
 	private final List<MetadataStoreListener> listeners = new CopyOnWriteArrayList<>();
 
+	private boolean localCache;
+
+	private int localCacheCapacity = DEFAULT_LOCAL_CACHE_CAPACITY;
+
+	/**
+	 * The cached {@link String} values, or the reservation tokens for keys being
+	 * read or written remotely.
+	 */
+	@Nullable
+	private volatile ConcurrentMap<String, Object> cache;
+
+	@Nullable
+	private volatile UUID listenerId;
+
 	public HazelcastMetadataStore(HazelcastInstance hazelcastInstance) {
 		Assert.notNull(hazelcastInstance, "Hazelcast instance can't be null");
 		this.map = hazelcastInstance.getMap(METADATA_STORE_MAP_NAME);
@@ -55,11 +100,47 @@ public class HazelcastMetadataStore implements ListenableMetadataStore, Initiali
 		this.map = map;
 	}
 
+	/**
+	 * Enable a local read-through cache for the {@link #get(String)} operations.
+	 * The cache is populated on reads and local writes, and updated or invalidated
+	 * by the {@link IMap} entry events, so the remote call is performed only for keys
+	 * not seen yet by this store.
+	 * Defaults to {@code false}.
+	 * @param localCache true to enable the local cache.
+	 * @since 6.5
+	 */
+	public void setLocalCache(boolean localCache) {
+		this.localCache = localCache;
+	}
+
+	/**
+	 * Set the max number of entries in the local cache.
+	 * When the capacity is reached, an arbitrary entry is evicted for a new one.
+	 * Defaults to 10000.
+	 * @param localCacheCapacity the max number of cached entries.
+	 * @since 6.5
+	 */
+	public void setLocalCacheCapacity(int localCacheCapacity) {
+		Assert.isTrue(localCacheCapacity > 0, "'localCacheCapacity' must be greater than 0");
+		this.localCacheCapacity = localCacheCapacity;
+	}
+
 	@Override
 	public String putIfAbsent(String key, String value) {
 		assertKey(key);
 		Assert.notNull(value, "'value' must not be null.");
-		return this.map.putIfAbsent(key, value);
+		ConcurrentMap<String, Object> localCache = this.cache;
+		Object token = reserve(localCache, key, true);
+		String existing;
+		try {
+			existing = this.map.putIfAbsent(key, value);
+		}
+		catch (RuntimeException ex) {
+			release(localCache, key, token);
+			throw ex;
+		}
+		fillCache(localCache, key, token, existing != null ? existing : value);
+		return existing;
 	}
 
 	@Override
@@ -67,32 +148,350 @@ public class HazelcastMetadataStore implements ListenableMetadataStore, Initiali
 		assertKey(key);
 		Assert.notNull(oldValue, "'oldValue' must not be null.");
 		Assert.notNull(newValue, "'newValue' must not be null.");
-		return this.map.replace(key, oldValue, newValue);
+		ConcurrentMap<String, Object> localCache = this.cache;
+		Object token = reserve(localCache, key, true);
+		boolean replaced = false;
+		try {
+			replaced = this.map.replace(key, oldValue, newValue);
+		}
+		finally {
+			if (replaced) {
+				fillCache(localCache, key, token, newValue);
+			}
+			else {
+				release(localCache, key, token);
+			}
+		}
+		return replaced;
 	}
 
 	@Override
 	public void put(String key, String value) {
 		assertKey(key);
 		Assert.notNull(value, "'value' must not be null.");
-		this.map.put(key, value);
+		ConcurrentMap<String, Object> localCache = this.cache;
+		Object token = reserve(localCache, key, true);
+		try {
+			this.map.set(key, value);
+		}
+		catch (RuntimeException ex) {
+			release(localCache, key, token);
+			throw ex;
+		}
+		fillCache(localCache, key, token, value);
 	}
 
 	@Override
 	public String get(String key) {
 		assertKey(key);
-		return this.map.get(key);
+		ConcurrentMap<String, Object> localCache = this.cache;
+		if (localCache != null && localCache.get(key) instanceof String cached) {
+			return cached;
+		}
+		Object token = reserve(localCache, key, false);
+		String value;
+		try {
+			value = this.map.get(key);
+		}
+		catch (RuntimeException ex) {
+			release(localCache, key, token);
+			throw ex;
+		}
+		return fillCache(localCache, key, token, value);
 	}
 
 	@Override
 	public String remove(String key) {
 		assertKey(key);
-		return this.map.remove(key);
+		try {
+			return this.map.remove(key);
+		}
+		finally {
+			evict(key);
+		}
+	}
+
+	/**
+	 * Store all the provided entries with a single {@link IMap#putAll(Map)} call.
+	 * @param entries the entries to store.
+	 * @since 6.5
+	 */
+	public void putAll(Map<String, String> entries) {
+		assertEntries(entries);
+		ConcurrentMap<String, Object> localCache = this.cache;
+		Map<String, Object> tokens = reserveAll(localCache, entries.keySet(), true);
+		try {
+			this.map.putAll(entries);
+		}
+		catch (RuntimeException ex) {
+			tokens.forEach((key, token) -> release(localCache, key, token));
+			throw ex;
+		}
+		tokens.forEach((key, token) -> fillCache(localCache, key, token, entries.get(key)));
+	}
+
+	/**
+	 * Store all the provided entries for keys which are not present in the store yet.
+	 * An {@link EntryProcessor} carrying only its own value is submitted to the owner
+	 * of each key, and all of them are awaited together, so the round-trips are pipelined.
+	 * @param entries the entries to store.
+	 * @return the existing values for keys which have not been stored.
+	 * @since 6.5
+	 */
+	public Map<String, String> putIfAbsentAll(Map<String, String> entries) {
+		assertEntries(entries);
+		ConcurrentMap<String, Object> localCache = this.cache;
+		Map<String, Object> tokens = reserveAll(localCache, entries.keySet(), true);
+		Map<String, String> existing = new HashMap<>();
+		try {
+			Map<String, CompletableFuture<String>> results = new HashMap<>();
+			entries.forEach((key, value) ->
+					results.put(key,
+							this.map.submitToKey(key, new PutIfAbsentEntryProcessor(value)).toCompletableFuture()));
+			CompletableFuture.allOf(results.values().toArray(new CompletableFuture<?>[0])).join();
+			results.forEach((key, result) -> {
+				String value = result.join();
+				if (value != null) {
+					existing.put(key, value);
+				}
+			});
+		}
+		catch (RuntimeException ex) {
+			tokens.forEach((key, token) -> release(localCache, key, token));
+			throw ex;
+		}
+		tokens.forEach((key, token) ->
+				fillCache(localCache, key, token, existing.getOrDefault(key, entries.get(key))));
+		return existing;
+	}
+
+	/**
+	 * Retrieve the values for all the provided keys with a single {@link IMap#getAll(Set)} call.
+	 * The keys already present in the local cache (if enabled) are not requested remotely.
+	 * @param keys the keys to retrieve.
+	 * @return the map of found entries; absent keys are not included.
+	 * @since 6.5
+	 */
+	public Map<String, String> getAll(Set<String> keys) {
+		Assert.notNull(keys, "'keys' must not be null.");
+		ConcurrentMap<String, Object> localCache = this.cache;
+		if (localCache == null) {
+			return this.map.getAll(keys);
+		}
+		Map<String, String> result = new HashMap<>();
+		Set<String> missedKeys = new HashSet<>();
+		for (String key : keys) {
+			if (localCache.get(key) instanceof String cached) {
+				result.put(key, cached);
+			}
+			else {
+				missedKeys.add(key);
+			}
+		}
+		if (!missedKeys.isEmpty()) {
+			Map<String, Object> tokens = reserveAll(localCache, missedKeys, false);
+			Map<String, String> fetched;
+			try {
+				fetched = this.map.getAll(missedKeys);
+			}
+			catch (RuntimeException ex) {
+				tokens.forEach((key, token) -> release(localCache, key, token));
+				throw ex;
+			}
+			for (String key : missedKeys) {
+				String value = fillCache(localCache, key, tokens.get(key), fetched.get(key));
+				if (value != null) {
+					result.put(key, value);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * The asynchronous variant of the {@link #get(String)}.
+	 * @param key the key to retrieve.
+	 * @return the future for the value.
+	 * @since 6.5
+	 */
+	public CompletableFuture<String> getAsync(String key) {
+		assertKey(key);
+		ConcurrentMap<String, Object> localCache = this.cache;
+		if (localCache != null && localCache.get(key) instanceof String cached) {
+			return CompletableFuture.completedFuture(cached);
+		}
+		Object token = reserve(localCache, key, false);
+		return this.map.getAsync(key)
+				.whenComplete((value, ex) -> {
+					if (ex != null) {
+						release(localCache, key, token);
+					}
+				})
+				.thenApply((value) -> fillCache(localCache, key, token, value))
+				.toCompletableFuture();
+	}
+
+	/**
+	 * The asynchronous variant of the {@link #put(String, String)}.
+	 * @param key the key to store.
+	 * @param value the value to store.
+	 * @return the future for the operation completion.
+	 * @since 6.5
+	 */
+	public CompletableFuture<Void> putAsync(String key, String value) {
+		assertKey(key);
+		Assert.notNull(value, "'value' must not be null.");
+		ConcurrentMap<String, Object> localCache = this.cache;
+		Object token = reserve(localCache, key, true);
+		return this.map.setAsync(key, value)
+				.whenComplete((result, ex) -> {
+					if (ex != null) {
+						release(localCache, key, token);
+					}
+					else {
+						fillCache(localCache, key, token, value);
+					}
+				})
+				.toCompletableFuture();
+	}
+
+	/**
+	 * The asynchronous variant of the {@link #putAll(Map)}.
+	 * @param entries the entries to store.
+	 * @return the future for the operation completion.
+	 * @since 6.5
+	 */
+	public CompletableFuture<Void> putAllAsync(Map<String, String> entries) {
+		assertEntries(entries);
+		ConcurrentMap<String, Object> localCache = this.cache;
+		Map<String, Object> tokens = reserveAll(localCache, entries.keySet(), true);
+		return this.map.putAllAsync(entries)
+				.whenComplete((result, ex) -> {
+					if (ex != null) {
+						tokens.forEach((key, token) -> release(localCache, key, token));
+					}
+					else {
+						tokens.forEach((key, token) -> fillCache(localCache, key, token, entries.get(key)));
+					}
+				})
+				.toCompletableFuture();
+	}
+
+	/**
+	 * The asynchronous variant of the {@link #remove(String)}.
+	 * @param key the key to remove.
+	 * @return the future for the removed value.
+	 * @since 6.5
+	 */
+	public CompletableFuture<String> removeAsync(String key) {
+		assertKey(key);
+		return this.map.removeAsync(key)
+				.whenComplete((value, ex) -> evict(key))
+				.toCompletableFuture();
+	}
+
+	/**
+	 * Put a new reservation token for the key to be read or written remotely.
+	 * The token is replaced or removed by the entry listener on any event for this key,
+	 * or by any other operation of this store on this key.
+	 * A read doesn't take over the reservation of another operation in progress;
+	 * a write does, since the value cached or reserved before is stale anyway.
+	 * @param localCache the local cache.
+	 * @param key the key.
+	 * @param write whether the key is going to be written.
+	 * @return the token, or null if the cache is disabled or the key is already reserved by a read.
+	 */
+	@Nullable
+	private Object reserve(@Nullable ConcurrentMap<String, Object> localCache, String key, boolean write) {
+		if (localCache == null) {
+			return null;
+		}
+		ensureCapacity(localCache);
+		Object token = new Object();
+		if (write) {
+			localCache.put(key, token);
+			return token;
+		}
+		return localCache.putIfAbsent(key, token) == null ? token : null;
+	}
+
+	private Map<String, Object> reserveAll(@Nullable ConcurrentMap<String, Object> localCache, Set<String> keys,
+			boolean write) {
+
+		Map<String, Object> tokens = new HashMap<>();
+		if (localCache != null) {
+			for (String key : keys) {
+				Object token = reserve(localCache, key, write);
+				if (token != null) {
+					tokens.put(key, token);
+				}
+			}
+		}
+		return tokens;
+	}
+
+	/**
+	 * Cache the value read or written remotely in place of the reservation token.
+	 * If the token has been replaced in the meantime by a newer value from the entry listener,
+	 * that value is kept (and returned); if it has been removed, nothing is cached.
+	 * @param localCache the local cache.
+	 * @param key the key.
+	 * @param token the reservation token.
+	 * @param value the value read or written remotely.
+	 * @return the value to return to the caller.
+	 */
+	@Nullable
+	private static String fillCache(@Nullable ConcurrentMap<String, Object> localCache, String key,
+			@Nullable Object token, @Nullable String value) {
+
+		if (localCache == null || token == null) {
+			return value;
+		}
+		if (value == null) {
+			localCache.remove(key, token);
+			return null;
+		}
+		if (localCache.replace(key, token, value)) {
+			return value;
+		}
+		return localCache.get(key) instanceof String cached ? cached : value;
+	}
+
+	private static void release(@Nullable ConcurrentMap<String, Object> localCache, String key,
+			@Nullable Object token) {
+
+		if (localCache != null && token != null) {
+			localCache.remove(key, token);
+		}
+	}
+
+	private void ensureCapacity(ConcurrentMap<String, Object> localCache) {
+		if (localCache.size() >= this.localCacheCapacity) {
+			Iterator<String> keys = localCache.keySet().iterator();
+			if (keys.hasNext()) {
+				keys.next();
+				keys.remove();
+			}
+		}
+	}
+
+	private void evict(String key) {
+		ConcurrentMap<String, Object> localCache = this.cache;
+		if (localCache != null) {
+			localCache.remove(key);
+		}
 	}
 
 	private static void assertKey(String key) {
 		Assert.notNull(key, "'key' must not be null.");
 	}
 
+	private static void assertEntries(Map<String, String> entries) {
+		Assert.notNull(entries, "'entries' must not be null.");
+		Assert.noNullElements(entries.keySet(), "'entries' must not contain null keys.");
+		Assert.noNullElements(entries.values(), "'entries' must not contain null values.");
+	}
+
 	@Override
 	public void addListener(MetadataStoreListener callback) {
 		Assert.notNull(callback, "callback object can not be null");
@@ -106,16 +505,45 @@ public class HazelcastMetadataStore implements ListenableMetadataStore, Initiali
 
 	@Override
 	public void afterPropertiesSet() {
-		this.map.addEntryListener(new MapListener(this.listeners), true);
+		if (this.localCache) {
+			this.cache = new ConcurrentHashMap<>();
+		}
+		this.listenerId = this.map.addEntryListener(new MapListener(this.listeners, this.cache), true);
+	}
+
+	/**
+	 * Remove the entry listener from the {@link IMap}.
+	 * @since 6.5
+	 */
+	@Override
+	public void destroy() {
+		UUID id = this.listenerId;
+		if (id != null) {
+			this.map.removeEntryListener(id);
+			this.listenerId = null;
+		}
 	}
 
-	private record MapListener(List<MetadataStoreListener> listeners)
+	/**
+	 * Notifies the {@link MetadataStoreListener}s and keeps the local cache coherent.
+	 * The cache is only updated or invalidated by the events, never filled,
+	 * so the cache holds only the keys used by this store. An event replaces or removes
+	 * the reservation token of the key, so an operation in progress doesn't cache its value.
+	 */
+	private record MapListener(List<MetadataStoreListener> listeners, @Nullable Map<String, Object> cache)
 			implements EntryAddedListener<String, String>,
 			EntryRemovedListener<String, String>,
-			EntryUpdatedListener<String, String> {
+			EntryUpdatedListener<String, String>,
+			EntryEvictedListener<String, String>,
+			EntryExpiredListener<String, String>,
+			MapClearedListener,
+			MapEvictedListener {
 
 		@Override
 		public void entryAdded(EntryEvent<String, String> event) {
+			if (this.cache != null) {
+				this.cache.replace(event.getKey(), event.getValue());
+			}
 			for (MetadataStoreListener listener : this.listeners) {
 				listener.onAdd(event.getKey(), event.getValue());
 			}
@@ -123,6 +551,9 @@ public class HazelcastMetadataStore implements ListenableMetadataStore, Initiali
 
 		@Override
 		public void entryRemoved(EntryEvent<String, String> event) {
+			if (this.cache != null) {
+				this.cache.remove(event.getKey());
+			}
 			for (MetadataStoreListener listener : this.listeners) {
 				listener.onRemove(event.getKey(), event.getOldValue());
 			}
@@ -130,11 +561,56 @@ public class HazelcastMetadataStore implements ListenableMetadataStore, Initiali
 
 		@Override
 		public void entryUpdated(EntryEvent<String, String> event) {
+			if (this.cache != null) {
+				this.cache.replace(event.getKey(), event.getValue());
+			}
 			for (MetadataStoreListener listener : this.listeners) {
 				listener.onUpdate(event.getKey(), event.getValue());
 			}
 		}
 
+		@Override
+		public void entryEvicted(EntryEvent<String, String> event) {
+			if (this.cache != null) {
+				this.cache.remove(event.getKey());
+			}
+		}
+
+		@Override
+		public void entryExpired(EntryEvent<String, String> event) {
+			if (this.cache != null) {
+				this.cache.remove(event.getKey());
+			}
+		}
+
+		@Override
+		public void mapCleared(MapEvent event) {
+			if (this.cache != null) {
+				this.cache.clear();
+			}
+		}
+
+		@Override
+		public void mapEvicted(MapEvent event) {
+			if (this.cache != null) {
+				this.cache.clear();
+			}
+		}
+
+	}
+
+	private record PutIfAbsentEntryProcessor(String value)
+			implements EntryProcessor<String, String, String> {
+
+		@Override
+		public String process(Map.Entry<String, String> entry) {
+			String existing = entry.getValue();
+			if (existing == null) {
+				entry.setValue(this.value);
+			}
+			return existing;
+		}
+
 	}
 
 }
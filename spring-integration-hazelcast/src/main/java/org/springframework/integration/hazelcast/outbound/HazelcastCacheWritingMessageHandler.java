@@ -1,5 +1,5 @@
 /*
- * Copyright 2015-2024 the original author or authors.
+ * Copyright 2015-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,9 +17,14 @@
 package org.springframework.integration.hazelcast.outbound;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
 
 import com.hazelcast.core.DistributedObject;
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.IMap;
 import com.hazelcast.multimap.MultiMap;
 import com.hazelcast.topic.ITopic;
 
@@ -34,6 +39,13 @@ import org.springframework.util.Assert;
 /**
  * MessageHandler implementation that writes {@link Message} or payload to defined
  * Hazelcast distributed cache object.
+ * <p>
+ * When an {@link EntryProcessor} (or an expression to build one) is provided, the handler
+ * doesn't write the payload, but sends the processor to the owner of the key evaluated
+ * by the {@code keyExpression} via {@link IMap#executeOnKey(Object, EntryProcessor)}.
+ * If the key expression evaluates to a {@link Collection}, the
+ * {@link IMap#executeOnKeys(Set, EntryProcessor)} batch variant is used.
+ * This way only the processor crosses the network and the update is atomic per key.
  *
  * @author Eren Avsarogullari
  * @author Artem Bilan
@@ -50,6 +62,12 @@ public class HazelcastCacheWritingMessageHandler extends AbstractMessageHandler
 
 	private boolean extractPayload = true;
 
+	private EntryProcessor<?, ?, ?> entryProcessor;
+
+	private Expression entryProcessorExpression;
+
+	private boolean async;
+
 	private EvaluationContext evaluationContext;
 
 	public void setDistributedObject(DistributedObject distributedObject) {
@@ -71,15 +89,59 @@ public class HazelcastCacheWritingMessageHandler extends AbstractMessageHandler
 		this.extractPayload = extractPayload;
 	}
 
+	/**
+	 * Specify an {@link EntryProcessor} to apply to the {@link IMap} entries
+	 * with keys evaluated by the {@code keyExpression}.
+	 * Mutually exclusive with {@link #setEntryProcessorExpression(Expression)}.
+	 * @param entryProcessor the {@link EntryProcessor} to apply.
+	 * @since 6.5
+	 */
+	public void setEntryProcessor(EntryProcessor<?, ?, ?> entryProcessor) {
+		Assert.notNull(entryProcessor, "'entryProcessor' must not be null");
+		this.entryProcessor = entryProcessor;
+	}
+
+	/**
+	 * Specify a SpEL {@link Expression} to build an {@link EntryProcessor} against the request message
+	 * to apply to the {@link IMap} entries with keys evaluated by the {@code keyExpression}.
+	 * Mutually exclusive with {@link #setEntryProcessor(EntryProcessor)}.
+	 * @param entryProcessorExpression the expression to evaluate an {@link EntryProcessor}.
+	 * @since 6.5
+	 */
+	public void setEntryProcessorExpression(Expression entryProcessorExpression) {
+		Assert.notNull(entryProcessorExpression, "'entryProcessorExpression' must not be null");
+		this.entryProcessorExpression = entryProcessorExpression;
+	}
+
+	/**
+	 * Set to {@code true} to submit an {@link EntryProcessor} via
+	 * {@link IMap#submitToKey(Object, EntryProcessor)} ({@link IMap#submitToKeys(Set, EntryProcessor)})
+	 * without waiting for the result.
+	 * The failures are logged.
+	 * Defaults to {@code false}.
+	 * @param async true to not wait for the entry processor result.
+	 * @since 6.5
+	 */
+	public void setAsync(boolean async) {
+		this.async = async;
+	}
+
 	@Override
 	protected void onInit() {
 		super.onInit();
+		Assert.state(this.entryProcessor == null || this.entryProcessorExpression == null,
+				"The 'entryProcessor' and 'entryProcessorExpression' are mutually exclusive");
 		this.evaluationContext = ExpressionUtils.createStandardEvaluationContext(getBeanFactory());
 	}
 
 	@Override
 	@SuppressWarnings({"unchecked", "rawtypes"})
 	protected void handleMessageInternal(final Message<?> message) {
+		if (this.entryProcessor != null || this.entryProcessorExpression != null) {
+			executeEntryProcessor(message);
+			return;
+		}
+
 		Object objectToStore = message;
 		if (this.extractPayload) {
 			objectToStore = message.getPayload();
@@ -130,6 +192,47 @@ public class HazelcastCacheWritingMessageHandler extends AbstractMessageHandler
 		}
 	}
 
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private void executeEntryProcessor(Message<?> message) {
+		DistributedObject object = getDistributedObject(message);
+		if (!(object instanceof IMap map)) {
+			throw new IllegalStateException("The 'object' for 'HazelcastCacheWritingMessageHandler' " +
+					"must be of 'IMap' type in the entry processor mode, but gotten: [" + object + "].");
+		}
+
+		EntryProcessor processor = this.entryProcessor;
+		if (processor == null) {
+			processor = this.entryProcessorExpression.getValue(this.evaluationContext, message, EntryProcessor.class);
+			Assert.state(processor != null,
+					() -> "The 'entryProcessorExpression' must not evaluate to null for message: " + message);
+		}
+
+		Object key = getKey(message);
+		if (key instanceof Collection<?> keys) {
+			Set<?> keySet = keys instanceof Set<?> set ? set : new HashSet<>(keys);
+			if (this.async) {
+				logFailure(map.submitToKeys(keySet, processor), keySet);
+			}
+			else {
+				map.executeOnKeys(keySet, processor);
+			}
+		}
+		else if (this.async) {
+			logFailure(map.submitToKey(key, processor), key);
+		}
+		else {
+			map.executeOnKey(key, processor);
+		}
+	}
+
+	private void logFailure(CompletionStage<?> completionStage, Object key) {
+		completionStage.whenComplete((result, ex) -> {
+			if (ex != null) {
+				logger.error(ex, () -> "The EntryProcessor has failed for key(s): " + key);
+			}
+		});
+	}
+
 	private DistributedObject getDistributedObject(final Message<?> message) {
 		if (this.distributedObject != null) {
 			return this.distributedObject;
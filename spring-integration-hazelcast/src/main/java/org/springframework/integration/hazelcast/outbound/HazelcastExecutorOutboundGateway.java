@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.hazelcast.outbound;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.hazelcast.core.ExecutionCallback;
+import com.hazelcast.core.HazelcastInstanceAware;
+import com.hazelcast.core.IExecutorService;
+
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.integration.MessageTimeoutException;
+import org.springframework.integration.expression.ExpressionUtils;
+import org.springframework.integration.handler.AbstractReplyProducingMessageHandler;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandlingException;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link AbstractReplyProducingMessageHandler} implementation to move the compute to the data:
+ * a {@link Callable} task evaluated against the request message is submitted to the
+ * {@link IExecutorService} for execution on the member owning the key evaluated by the
+ * {@link #setKeyExpression(Expression)}.
+ * <p>
+ * The task must be serializable and may implement {@link HazelcastInstanceAware}
+ * to access the owner member's local data, e.g. {@code IMap.get()} of the same key
+ * without a remote call.
+ * <p>
+ * The task result is produced as a reply payload.
+ * In the {@link #setAsync(boolean) async} mode the reply is sent from the
+ * {@link ExecutionCallback} without blocking the calling thread.
+ * The task result is awaited for the {@link #setReplyTimeout(long) replyTimeout} in both modes.
+ *
+ * @author agent
+ *
+ * @since 6.5
+ */
+public class HazelcastExecutorOutboundGateway extends AbstractReplyProducingMessageHandler {
+
+	private static final long DEFAULT_REPLY_TIMEOUT = 30_000L;
+
+	private final IExecutorService executorService;
+
+	private long replyTimeout = DEFAULT_REPLY_TIMEOUT;
+
+	private Expression taskExpression;
+
+	private Expression keyExpression;
+
+	private EvaluationContext evaluationContext;
+
+	public HazelcastExecutorOutboundGateway(IExecutorService executorService) {
+		Assert.notNull(executorService, "'executorService' must not be null");
+		this.executorService = executorService;
+	}
+
+	/**
+	 * Specify a SpEL {@link Expression} to evaluate a {@link Callable} task against the request message.
+	 * Defaults to the message payload.
+	 * @param taskExpression the expression for the task.
+	 */
+	public void setTaskExpression(Expression taskExpression) {
+		Assert.notNull(taskExpression, "'taskExpression' must not be null");
+		this.taskExpression = taskExpression;
+	}
+
+	/**
+	 * Specify a SpEL {@link Expression} to evaluate a key against the request message.
+	 * The task is executed on the member owning the partition of this key.
+	 * If not provided or evaluated to {@code null}, the task is executed on any member.
+	 * @param keyExpression the expression for key.
+	 */
+	public void setKeyExpression(Expression keyExpression) {
+		Assert.notNull(keyExpression, "'keyExpression' must not be null");
+		this.keyExpression = keyExpression;
+	}
+
+	/**
+	 * Set the time in milliseconds to wait for the task result.
+	 * The request fails with a {@link MessageTimeoutException} when the result doesn't arrive in time,
+	 * and the task is cancelled if it has not started yet.
+	 * In the {@link #setAsync(boolean) async} mode the reply future is completed with that exception instead.
+	 * A negative value means wait indefinitely. Defaults to 30 seconds.
+	 * @param replyTimeout the time to wait for the task result.
+	 */
+	public void setReplyTimeout(long replyTimeout) {
+		this.replyTimeout = replyTimeout;
+	}
+
+	@Override
+	public String getComponentType() {
+		return "hazelcast:executor-outbound-gateway";
+	}
+
+	@Override
+	protected void doInit() {
+		this.evaluationContext = ExpressionUtils.createStandardEvaluationContext(getBeanFactory());
+	}
+
+	@Override
+	protected Object handleRequestMessage(Message<?> requestMessage) {
+		Callable<Object> task = evaluateTask(requestMessage);
+		Object key = null;
+		if (this.keyExpression != null) {
+			key = this.keyExpression.getValue(this.evaluationContext, requestMessage);
+		}
+
+		if (isAsync()) {
+			CompletableFuture<Object> reply = new CompletableFuture<>();
+			ExecutionCallback<Object> callback = new CompletableFutureExecutionCallback(reply);
+			if (key != null) {
+				this.executorService.submitToKeyOwner(task, key, callback);
+			}
+			else {
+				this.executorService.submit(task, callback);
+			}
+			if (this.replyTimeout >= 0) {
+				CompletableFuture.delayedExecutor(this.replyTimeout, TimeUnit.MILLISECONDS)
+						.execute(() -> reply.completeExceptionally(new MessageTimeoutException(requestMessage,
+								"No task result in " + this.replyTimeout + " milliseconds")));
+			}
+			return reply;
+		}
+
+		Future<Object> future =
+				key != null
+						? this.executorService.submitToKeyOwner(task, key)
+						: this.executorService.submit(task);
+		try {
+			return this.replyTimeout >= 0
+					? future.get(this.replyTimeout, TimeUnit.MILLISECONDS)
+					: future.get();
+		}
+		catch (TimeoutException ex) {
+			future.cancel(false);
+			throw new MessageTimeoutException(requestMessage,
+					"No task result in " + this.replyTimeout + " milliseconds", ex);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new MessageHandlingException(requestMessage, "Interrupted while waiting for the task result", ex);
+		}
+		catch (ExecutionException ex) {
+			throw new MessageHandlingException(requestMessage, "The task execution has failed", ex.getCause());
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private Callable<Object> evaluateTask(Message<?> requestMessage) {
+		Object task = requestMessage.getPayload();
+		if (this.taskExpression != null) {
+			task = this.taskExpression.getValue(this.evaluationContext, requestMessage);
+		}
+		if (!(task instanceof Callable<?> callable)) {
+			throw new MessageHandlingException(requestMessage,
+					"The task must be a 'java.util.concurrent.Callable', but gotten: [" + task + "].");
+		}
+		return (Callable<Object>) callable;
+	}
+
+	private record CompletableFutureExecutionCallback(CompletableFuture<Object> future)
+			implements ExecutionCallback<Object> {
+
+		@Override
+		public void onResponse(Object response) {
+			this.future.complete(response);
+		}
+
+		@Override
+		public void onFailure(Throwable t) {
+			this.future.completeExceptionally(t);
+		}
+
+	}
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.hazelcast.channel;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.GenericMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * @author agent
+ *
+ * @since 6.5
+ */
+public class HazelcastPartitionedChannelTests {
+
+	private static HazelcastInstance instance1;
+
+	private static HazelcastInstance instance2;
+
+	@BeforeAll
+	public static void init() {
+		instance1 = Hazelcast.newHazelcastInstance();
+		instance2 = Hazelcast.newHazelcastInstance();
+	}
+
+	@AfterAll
+	public static void destroy() {
+		instance1.shutdown();
+		instance2.shutdown();
+	}
+
+	@Test
+	public void testPartitionAffineConsumption() {
+		HazelcastPartitionedChannel channel1 = createChannel(instance1);
+		HazelcastPartitionedChannel channel2 = createChannel(instance2);
+
+		int partitionCount = instance1.getPartitionService().getPartitions().size();
+		await().untilAsserted(() -> {
+			Set<Integer> owned = new HashSet<>();
+			for (int partition : channel1.getOwnedPartitions()) {
+				owned.add(partition);
+			}
+			for (int partition : channel2.getOwnedPartitions()) {
+				assertThat(owned.add(partition)).isTrue();
+			}
+			assertThat(owned).hasSize(partitionCount);
+		});
+
+		for (int i = 0; i < 100; i++) {
+			channel1.send(new GenericMessage<>(i));
+		}
+
+		List<Message<?>> received1 = drain(channel1);
+		List<Message<?>> received2 = drain(channel2);
+
+		assertThat(received1.size() + received2.size()).isEqualTo(100);
+		assertThat(received1).isNotEmpty();
+		assertThat(received2).isNotEmpty();
+
+		for (Message<?> message : received1) {
+			assertThat(instance1.getPartitionService().getPartition(message.getPayload()).getOwner().localMember())
+					.isTrue();
+		}
+
+		channel1.destroy();
+		channel2.destroy();
+	}
+
+	@Test
+	public void testOrderIsPreservedPerKey() {
+		HazelcastPartitionedChannel channel = new HazelcastPartitionedChannel(instance1, "orderedChannel");
+		channel.setOwnedPartitionsOnly(false);
+		channel.setPartitionKeyExpression(new SpelExpressionParser().parseExpression("'sameKey'"));
+		channel.setBeanName("orderedChannel");
+		channel.afterPropertiesSet();
+
+		for (int i = 0; i < 10; i++) {
+			channel.send(new GenericMessage<>(i));
+		}
+
+		for (int i = 0; i < 10; i++) {
+			Message<?> message = channel.receive(10_000);
+			assertThat(message).isNotNull();
+			assertThat(message.getPayload()).isEqualTo(i);
+		}
+		assertThat(channel.receive(0)).isNull();
+
+		channel.destroy();
+	}
+
+	private static HazelcastPartitionedChannel createChannel(HazelcastInstance instance) {
+		HazelcastPartitionedChannel channel = new HazelcastPartitionedChannel(instance, "partitionedChannel");
+		channel.setPartitionKeyExpression(new SpelExpressionParser().parseExpression("payload"));
+		channel.setBeanName("partitionedChannel");
+		channel.afterPropertiesSet();
+		return channel;
+	}
+
+	private static List<Message<?>> drain(HazelcastPartitionedChannel channel) {
+		List<Message<?>> messages = new ArrayList<>();
+		Message<?> message;
+		while ((message = channel.receive(100)) != null) {
+			messages.add(message);
+		}
+		return messages;
+	}
+
+}
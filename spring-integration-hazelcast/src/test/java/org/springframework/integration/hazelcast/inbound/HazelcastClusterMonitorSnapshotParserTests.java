@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.hazelcast.inbound;
+
+import java.time.Duration;
+
+import com.hazelcast.core.HazelcastInstance;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.integration.hazelcast.message.ClusterMonitorSnapshot;
+import org.springframework.integration.test.util.TestUtils;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.PollableChannel;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author agent
+ *
+ * @since 6.5
+ */
+@SpringJUnitConfig
+@DirtiesContext
+public class HazelcastClusterMonitorSnapshotParserTests {
+
+	@Autowired
+	private PollableChannel snapshotChannel;
+
+	@Autowired
+	private HazelcastInstance instance;
+
+	@Autowired
+	private HazelcastClusterMonitorMessageProducer snapshotAdapter;
+
+	@Test
+	public void testSnapshotInterval() {
+		assertThat(TestUtils.getPropertyValue(this.snapshotAdapter, "snapshotInterval"))
+				.isEqualTo(Duration.ofMillis(500));
+
+		this.instance.getMap("xmlSnapshotMap");
+
+		Message<?> message = this.snapshotChannel.receive(10_000);
+		assertThat(message).isNotNull();
+		assertThat(message.getPayload()).isInstanceOf(ClusterMonitorSnapshot.class);
+		assertThat(((ClusterMonitorSnapshot) message.getPayload()).objectsCreated())
+				.contains("hz:impl:mapService:xmlSnapshotMap");
+	}
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.hazelcast.inbound;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.integration.hazelcast.message.ClusterMonitorSnapshot;
+import org.springframework.integration.test.util.TestUtils;
+import org.springframework.messaging.Message;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * @author agent
+ *
+ * @since 6.5
+ */
+public class HazelcastClusterMonitorSnapshotTests {
+
+	private static HazelcastInstance instance;
+
+	private static ThreadPoolTaskScheduler taskScheduler;
+
+	@BeforeAll
+	public static void init() {
+		instance = Hazelcast.newHazelcastInstance();
+		taskScheduler = new ThreadPoolTaskScheduler();
+		taskScheduler.initialize();
+	}
+
+	@AfterAll
+	public static void destroy() {
+		taskScheduler.destroy();
+		instance.shutdown();
+	}
+
+	@Test
+	public void testDistributedObjectEventsAreEmittedAsSnapshot() {
+		QueueChannel outputChannel = new QueueChannel();
+		HazelcastClusterMonitorMessageProducer producer = new HazelcastClusterMonitorMessageProducer(instance);
+		producer.setMonitorEventTypes("DISTRIBUTED_OBJECT");
+		producer.setSnapshotInterval(Duration.ofMillis(500));
+		producer.setOutputChannel(outputChannel);
+		producer.setTaskScheduler(taskScheduler);
+		producer.setBeanFactory(new DefaultListableBeanFactory());
+		producer.afterPropertiesSet();
+		producer.start();
+
+		instance.getMap("snapshotMap1");
+		instance.getMap("snapshotMap2");
+		instance.getList("snapshotList").destroy();
+
+		// The events may be spread over several snapshots: merge them until the expected state arrives
+		Set<String> objectsCreated = new HashSet<>();
+		Set<String> objectsDestroyed = new HashSet<>();
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (!objectsCreated.equals(Set.of("hz:impl:mapService:snapshotMap1", "hz:impl:mapService:snapshotMap2"))
+				|| !objectsDestroyed.isEmpty()) {
+
+			Message<?> message = outputChannel.receive(Math.max(deadline - System.currentTimeMillis(), 1));
+			assertThat(message).isNotNull();
+			assertThat(message.getPayload()).isInstanceOf(ClusterMonitorSnapshot.class);
+			ClusterMonitorSnapshot snapshot = (ClusterMonitorSnapshot) message.getPayload();
+			assertThat(snapshot.members()).hasSize(1);
+			objectsCreated.addAll(snapshot.objectsCreated());
+			for (String object : snapshot.objectsDestroyed()) {
+				if (!objectsCreated.remove(object)) {
+					objectsDestroyed.add(object);
+				}
+			}
+		}
+
+		assertThat(outputChannel.receive(1000)).isNull();
+
+		producer.stop();
+	}
+
+	@Test
+	public void testPendingChangesAreEmittedOnStop() {
+		QueueChannel outputChannel = new QueueChannel();
+		HazelcastClusterMonitorMessageProducer producer = new HazelcastClusterMonitorMessageProducer(instance);
+		producer.setMonitorEventTypes("DISTRIBUTED_OBJECT");
+		producer.setSnapshotInterval(Duration.ofHours(1));
+		producer.setOutputChannel(outputChannel);
+		producer.setTaskScheduler(taskScheduler);
+		producer.setBeanFactory(new DefaultListableBeanFactory());
+		producer.afterPropertiesSet();
+		producer.start();
+
+		instance.getMap("stopMap");
+
+		await().until(() -> TestUtils.getPropertyValue(producer, "clusterStateDelta.changed", Boolean.class));
+
+		producer.stop();
+
+		Message<?> message = outputChannel.receive(0);
+		assertThat(message).isNotNull();
+		ClusterMonitorSnapshot snapshot = (ClusterMonitorSnapshot) message.getPayload();
+		assertThat(snapshot.objectsCreated()).containsExactly("hz:impl:mapService:stopMap");
+	}
+
+}
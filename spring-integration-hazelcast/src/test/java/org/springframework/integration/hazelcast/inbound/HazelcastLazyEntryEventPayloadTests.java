@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.hazelcast.inbound;
+
+import java.util.Arrays;
+
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.integration.hazelcast.CacheListeningPolicyType;
+import org.springframework.integration.hazelcast.message.EntryEventMessagePayload;
+import org.springframework.integration.hazelcast.message.LazyEntryEventMessagePayload;
+import org.springframework.messaging.Message;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author agent
+ *
+ * @since 6.5
+ */
+public class HazelcastLazyEntryEventPayloadTests {
+
+	private static HazelcastInstance instance;
+
+	@BeforeAll
+	public static void init() {
+		instance = Hazelcast.newHazelcastInstance();
+	}
+
+	@AfterAll
+	public static void destroy() {
+		instance.shutdown();
+	}
+
+	@Test
+	public void testLazyPayload() {
+		IMap<String, String> map = instance.getMap("lazyPayloadMap");
+		QueueChannel channel = new QueueChannel();
+		HazelcastEventDrivenMessageProducer producer = createProducer(map, channel);
+		producer.setCacheEventTypes("ADDED,UPDATED");
+		producer.setLazyPayload(true);
+		producer.afterPropertiesSet();
+		producer.start();
+
+		map.put("foo", "bar");
+		map.put("foo", "baz");
+
+		Message<?> message = channel.receive(10_000);
+		assertThat(message).isNotNull();
+		assertThat(message.getPayload()).isInstanceOf(LazyEntryEventMessagePayload.class);
+		LazyEntryEventMessagePayload<?, ?> lazyPayload = (LazyEntryEventMessagePayload<?, ?>) message.getPayload();
+		assertThat(lazyPayload.getKey()).isEqualTo("foo");
+		assertThat(lazyPayload.getValue()).isEqualTo("bar");
+		assertThat(lazyPayload.getOldValue()).isNull();
+		assertThat(lazyPayload.toEntryEventMessagePayload())
+				.isEqualTo(new EntryEventMessagePayload<>("foo", "bar", null));
+
+		message = channel.receive(10_000);
+		assertThat(message).isNotNull();
+		assertThat(new SpelExpressionParser().parseExpression("payload.value").getValue(message)).isEqualTo("baz");
+		assertThat(new SpelExpressionParser().parseExpression("payload.oldValue").getValue(message))
+				.isEqualTo("bar");
+
+		producer.stop();
+	}
+
+	@Test
+	public void testLazyPayloadsOfSameEventAreEqual() {
+		IMap<String, String> map = instance.getMap("lazyPayloadEqualsMap");
+		QueueChannel channel1 = new QueueChannel();
+		QueueChannel channel2 = new QueueChannel();
+		HazelcastEventDrivenMessageProducer producer1 = createProducer(map, channel1);
+		HazelcastEventDrivenMessageProducer producer2 = createProducer(map, channel2);
+		for (HazelcastEventDrivenMessageProducer producer : Arrays.asList(producer1, producer2)) {
+			producer.setLazyPayload(true);
+			producer.afterPropertiesSet();
+			producer.start();
+		}
+
+		map.put("foo", "bar");
+
+		Message<?> message1 = channel1.receive(10_000);
+		Message<?> message2 = channel2.receive(10_000);
+		assertThat(message1).isNotNull();
+		assertThat(message2).isNotNull();
+		assertThat(message1.getPayload()).isEqualTo(message2.getPayload());
+		assertThat(message1.getPayload().hashCode()).isEqualTo(message2.getPayload().hashCode());
+		assertThat(message1.getPayload()).isNotEqualTo(new EntryEventMessagePayload<>("foo", "bar", null));
+
+		producer1.stop();
+		producer2.stop();
+	}
+
+	@Test
+	public void testExcludeValue() {
+		IMap<String, String> map = instance.getMap("excludeValueMap");
+		QueueChannel channel = new QueueChannel();
+		HazelcastEventDrivenMessageProducer producer = createProducer(map, channel);
+		producer.setIncludeValue(false);
+		producer.afterPropertiesSet();
+		producer.start();
+
+		map.put("foo", "bar");
+
+		Message<?> message = channel.receive(10_000);
+		assertThat(message).isNotNull();
+		EntryEventMessagePayload<?, ?> payload = (EntryEventMessagePayload<?, ?>) message.getPayload();
+		assertThat(payload.getKey()).isEqualTo("foo");
+		assertThat(payload.getValue()).isNull();
+
+		producer.stop();
+	}
+
+	private static HazelcastEventDrivenMessageProducer createProducer(IMap<String, String> map,
+			QueueChannel channel) {
+
+		HazelcastEventDrivenMessageProducer producer = new HazelcastEventDrivenMessageProducer(map);
+		producer.setCacheListeningPolicy(CacheListeningPolicyType.ALL);
+		producer.setOutputChannel(channel);
+		producer.setBeanFactory(new DefaultListableBeanFactory());
+		return producer;
+	}
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2017-2023 the original author or authors.
+ * Copyright 2017-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,9 @@
 
 package org.springframework.integration.hazelcast.metadata;
 
+import java.util.Map;
+import java.util.Set;
+
 import com.hazelcast.core.Hazelcast;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.IMap;
@@ -26,6 +29,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.integration.metadata.MetadataStoreListener;
+import org.springframework.integration.test.util.TestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -64,6 +68,7 @@ public class HazelcastMetadataStoreTests {
 
 	@AfterEach
 	public void clean() {
+		this.metadataStore.destroy();
 		map.clear();
 	}
 
@@ -160,4 +165,95 @@ public class HazelcastMetadataStoreTests {
 		verify(listener).onRemove("foo", "baz");
 	}
 
+	@Test
+	public void testBatchOperations() {
+		this.metadataStore.putAll(Map.of("batch1", "v1", "batch2", "v2"));
+		assertThat(map.get("batch1")).isEqualTo("v1");
+		assertThat(map.get("batch2")).isEqualTo("v2");
+
+		Map<String, String> existing =
+				this.metadataStore.putIfAbsentAll(Map.of("batch1", "other", "batch3", "v3"));
+		assertThat(existing).containsOnly(Map.entry("batch1", "v1"));
+		assertThat(map.get("batch3")).isEqualTo("v3");
+
+		assertThat(this.metadataStore.getAll(Set.of("batch1", "batch3", "batch4")))
+				.containsOnly(Map.entry("batch1", "v1"), Map.entry("batch3", "v3"));
+	}
+
+	@Test
+	public void testAsyncOperations() {
+		this.metadataStore.putAsync("async1", "v1").join();
+		this.metadataStore.putAllAsync(Map.of("async2", "v2")).join();
+		assertThat(this.metadataStore.getAsync("async1").join()).isEqualTo("v1");
+		assertThat(this.metadataStore.getAsync("async2").join()).isEqualTo("v2");
+		assertThat(this.metadataStore.removeAsync("async1").join()).isEqualTo("v1");
+		assertThat(this.metadataStore.getAsync("async1").join()).isNull();
+	}
+
+	@Test
+	public void testLocalCacheIsCoherentWithMap() {
+		HazelcastMetadataStore cachingStore = new HazelcastMetadataStore(map);
+		cachingStore.setLocalCache(true);
+		cachingStore.afterPropertiesSet();
+		try {
+			map.put("cached", "v1");
+			assertThat(cachingStore.get("cached")).isEqualTo("v1");
+
+			map.put("cached", "v2");
+			await().untilAsserted(() -> assertThat(cachingStore.get("cached")).isEqualTo("v2"));
+
+			map.remove("cached");
+			await().untilAsserted(() -> assertThat(cachingStore.get("cached")).isNull());
+		}
+		finally {
+			cachingStore.destroy();
+		}
+	}
+
+	@Test
+	public void testLocalCacheHit() {
+		HazelcastMetadataStore cachingStore = new HazelcastMetadataStore(map);
+		cachingStore.setLocalCache(true);
+		cachingStore.afterPropertiesSet();
+		try {
+			map.put("hit", "v1");
+
+			long gets = map.getLocalMapStats().getGetOperationCount();
+			assertThat(this.metadataStore.get("hit")).isEqualTo("v1");
+			await().untilAsserted(() -> assertThat(map.getLocalMapStats().getGetOperationCount()).isEqualTo(gets + 1));
+
+			assertThat(cachingStore.get("hit")).isEqualTo("v1");
+			await().untilAsserted(() -> assertThat(map.getLocalMapStats().getGetOperationCount()).isEqualTo(gets + 2));
+
+			assertThat(cachingStore.get("hit")).isEqualTo("v1");
+			assertThat(cachingStore.getAll(Set.of("hit"))).containsOnly(Map.entry("hit", "v1"));
+			assertThat(cachingStore.getAsync("hit").join()).isEqualTo("v1");
+			assertThat(map.getLocalMapStats().getGetOperationCount()).isEqualTo(gets + 2);
+		}
+		finally {
+			cachingStore.destroy();
+		}
+	}
+
+	@Test
+	public void testLocalCacheIsBounded() {
+		HazelcastMetadataStore cachingStore = new HazelcastMetadataStore(map);
+		cachingStore.setLocalCache(true);
+		cachingStore.setLocalCacheCapacity(2);
+		cachingStore.afterPropertiesSet();
+		try {
+			cachingStore.put("bounded1", "v1");
+			cachingStore.put("bounded2", "v2");
+			cachingStore.put("bounded3", "v3");
+
+			assertThat(TestUtils.getPropertyValue(cachingStore, "cache", Map.class)).hasSizeLessThanOrEqualTo(2);
+			assertThat(cachingStore.get("bounded1")).isEqualTo("v1");
+			assertThat(cachingStore.get("bounded2")).isEqualTo("v2");
+			assertThat(cachingStore.get("bounded3")).isEqualTo("v3");
+		}
+		finally {
+			cachingStore.destroy();
+		}
+	}
+
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.hazelcast.outbound;
+
+import java.util.List;
+import java.util.Map;
+
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.IMap;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.messaging.support.GenericMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * @author agent
+ *
+ * @since 6.5
+ */
+public class HazelcastCacheWritingMessageHandlerEntryProcessorTests {
+
+	private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+
+	private static HazelcastInstance instance;
+
+	private static IMap<String, Integer> map;
+
+	@BeforeAll
+	public static void init() {
+		instance = Hazelcast.newHazelcastInstance();
+		map = instance.getMap("entryProcessorTestMap");
+	}
+
+	@AfterAll
+	public static void destroy() {
+		instance.shutdown();
+	}
+
+	@BeforeEach
+	public void clean() {
+		map.clear();
+	}
+
+	@Test
+	public void testEntryProcessorOnKey() {
+		HazelcastCacheWritingMessageHandler handler = createHandler();
+		handler.setKeyExpression(PARSER.parseExpression("'counter'"));
+		handler.setEntryProcessorExpression(
+				PARSER.parseExpression("new " + IncrementEntryProcessor.class.getName() + "(payload)"));
+		handler.afterPropertiesSet();
+
+		handler.handleMessage(new GenericMessage<>(2));
+		handler.handleMessage(new GenericMessage<>(3));
+
+		assertThat(map.get("counter")).isEqualTo(5);
+	}
+
+	@Test
+	public void testEntryProcessorOnKeys() {
+		map.putAll(Map.of("a", 1, "b", 10));
+
+		HazelcastCacheWritingMessageHandler handler = createHandler();
+		handler.setKeyExpression(PARSER.parseExpression("payload"));
+		handler.setEntryProcessor(new IncrementEntryProcessor(1));
+		handler.afterPropertiesSet();
+
+		handler.handleMessage(new GenericMessage<>(List.of("a", "b", "c")));
+
+		assertThat(map).containsOnly(Map.entry("a", 2), Map.entry("b", 11), Map.entry("c", 1));
+	}
+
+	@Test
+	public void testAsyncEntryProcessor() {
+		HazelcastCacheWritingMessageHandler handler = createHandler();
+		handler.setKeyExpression(PARSER.parseExpression("'asyncCounter'"));
+		handler.setEntryProcessor(new IncrementEntryProcessor(1));
+		handler.setAsync(true);
+		handler.afterPropertiesSet();
+
+		for (int i = 0; i < 10; i++) {
+			handler.handleMessage(new GenericMessage<>("foo"));
+		}
+
+		await().untilAsserted(() -> assertThat(map.get("asyncCounter")).isEqualTo(10));
+	}
+
+	private static HazelcastCacheWritingMessageHandler createHandler() {
+		HazelcastCacheWritingMessageHandler handler = new HazelcastCacheWritingMessageHandler();
+		handler.setDistributedObject(map);
+		handler.setBeanFactory(new DefaultListableBeanFactory());
+		return handler;
+	}
+
+	public static class IncrementEntryProcessor implements EntryProcessor<String, Integer, Integer> {
+
+		private final int delta;
+
+		public IncrementEntryProcessor(int delta) {
+			this.delta = delta;
+		}
+
+		@Override
+		public Integer process(Map.Entry<String, Integer> entry) {
+			Integer value = entry.getValue();
+			int newValue = (value != null ? value : 0) + this.delta;
+			entry.setValue(newValue);
+			return newValue;
+		}
+
+	}
+
+}
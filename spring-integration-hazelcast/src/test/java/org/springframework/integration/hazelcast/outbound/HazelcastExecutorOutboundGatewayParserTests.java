@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.hazelcast.outbound;
+
+import com.hazelcast.core.HazelcastInstance;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.integration.test.util.TestUtils;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.PollableChannel;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author agent
+ *
+ * @since 6.5
+ */
+@SpringJUnitConfig
+@DirtiesContext
+public class HazelcastExecutorOutboundGatewayParserTests {
+
+	@Autowired
+	private MessageChannel requestChannel;
+
+	@Autowired
+	private PollableChannel replyChannel;
+
+	@Autowired
+	private HazelcastInstance instance;
+
+	@Autowired
+	@Qualifier("executorGateway.handler")
+	private HazelcastExecutorOutboundGateway gateway;
+
+	@Test
+	public void testExecutorOutboundGateway() {
+		assertThat(TestUtils.getPropertyValue(this.gateway, "replyTimeout")).isEqualTo(10000L);
+
+		this.instance.getMap("executorGatewayXmlMap").put("foo", "bar");
+		this.requestChannel.send(new GenericMessage<>("foo"));
+
+		Message<?> reply = this.replyChannel.receive(10_000);
+		assertThat(reply).isNotNull();
+		assertThat(reply.getPayload()).isEqualTo("BAR");
+	}
+
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.hazelcast.outbound;
+
+import java.io.Serializable;
+import java.util.concurrent.Callable;
+
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.core.HazelcastInstanceAware;
+import com.hazelcast.map.IMap;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.integration.MessageTimeoutException;
+import org.springframework.integration.channel.QueueChannel;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandlingException;
+import org.springframework.messaging.support.GenericMessage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author agent
+ *
+ * @since 6.5
+ */
+public class HazelcastExecutorOutboundGatewayTests {
+
+	private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+
+	private static HazelcastInstance instance;
+
+	@BeforeAll
+	public static void init() {
+		instance = Hazelcast.newHazelcastInstance();
+		IMap<String, String> map = instance.getMap("executorGatewayMap");
+		map.put("foo", "bar");
+	}
+
+	@AfterAll
+	public static void destroy() {
+		instance.shutdown();
+	}
+
+	@Test
+	public void testTaskExecutedOnKeyOwner() {
+		QueueChannel replyChannel = new QueueChannel();
+		HazelcastExecutorOutboundGateway gateway = createGateway(false);
+		gateway.setOutputChannel(replyChannel);
+		gateway.afterPropertiesSet();
+
+		gateway.handleMessage(new GenericMessage<>("foo"));
+
+		Message<?> reply = replyChannel.receive(10_000);
+		assertThat(reply).isNotNull();
+		assertThat(reply.getPayload()).isEqualTo("BAR");
+	}
+
+	@Test
+	public void testAsyncReply() {
+		QueueChannel replyChannel = new QueueChannel();
+		HazelcastExecutorOutboundGateway gateway = createGateway(true);
+		gateway.setOutputChannel(replyChannel);
+		gateway.afterPropertiesSet();
+
+		gateway.handleMessage(new GenericMessage<>("foo"));
+
+		Message<?> reply = replyChannel.receive(10_000);
+		assertThat(reply).isNotNull();
+		assertThat(reply.getPayload()).isEqualTo("BAR");
+	}
+
+	@Test
+	public void testNonCallableTaskIsRejected() {
+		HazelcastExecutorOutboundGateway gateway =
+				new HazelcastExecutorOutboundGateway(instance.getExecutorService("test"));
+		gateway.setBeanFactory(new DefaultListableBeanFactory());
+		gateway.setOutputChannel(new QueueChannel());
+		gateway.afterPropertiesSet();
+
+		assertThatExceptionOfType(MessageHandlingException.class)
+				.isThrownBy(() -> gateway.handleMessage(new GenericMessage<>("foo")))
+				.withMessageContaining("The task must be a 'java.util.concurrent.Callable'");
+	}
+
+	@Test
+	public void testReplyTimeout() {
+		HazelcastExecutorOutboundGateway gateway =
+				new HazelcastExecutorOutboundGateway(instance.getExecutorService("slow"));
+		gateway.setTaskExpression(PARSER.parseExpression("new " + SleepingTask.class.getName() + "(5000)"));
+		gateway.setReplyTimeout(100);
+		gateway.setBeanFactory(new DefaultListableBeanFactory());
+		gateway.setOutputChannel(new QueueChannel());
+		gateway.afterPropertiesSet();
+
+		assertThatExceptionOfType(MessageTimeoutException.class)
+				.isThrownBy(() -> gateway.handleMessage(new GenericMessage<>("foo")))
+				.withMessageContaining("No task result in 100 milliseconds");
+	}
+
+	@Test
+	public void testAsyncReplyTimeout() {
+		HazelcastExecutorOutboundGateway gateway =
+				new HazelcastExecutorOutboundGateway(instance.getExecutorService("slow"));
+		gateway.setTaskExpression(PARSER.parseExpression("new " + SleepingTask.class.getName() + "(5000)"));
+		gateway.setReplyTimeout(100);
+		gateway.setAsync(true);
+		gateway.setBeanFactory(new DefaultListableBeanFactory());
+		gateway.setOutputChannel(new QueueChannel());
+		gateway.afterPropertiesSet();
+		QueueChannel errorChannel = new QueueChannel();
+
+		gateway.handleMessage(MessageBuilder.withPayload("foo").setErrorChannel(errorChannel).build());
+
+		Message<?> errorMessage = errorChannel.receive(10_000);
+		assertThat(errorMessage).isNotNull();
+		assertThat((Throwable) errorMessage.getPayload())
+				.hasStackTraceContaining(MessageTimeoutException.class.getName())
+				.hasStackTraceContaining("No task result in 100 milliseconds");
+	}
+
+	private static HazelcastExecutorOutboundGateway createGateway(boolean async) {
+		HazelcastExecutorOutboundGateway gateway =
+				new HazelcastExecutorOutboundGateway(instance.getExecutorService("test"));
+		gateway.setKeyExpression(PARSER.parseExpression("payload"));
+		gateway.setTaskExpression(
+				PARSER.parseExpression("new " + UpperCaseEntryTask.class.getName() + "('executorGatewayMap', payload)"));
+		gateway.setAsync(async);
+		gateway.setBeanFactory(new DefaultListableBeanFactory());
+		return gateway;
+	}
+
+	public static class SleepingTask implements Callable<String>, Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final long sleep;
+
+		public SleepingTask(long sleep) {
+			this.sleep = sleep;
+		}
+
+		@Override
+		public String call() throws InterruptedException {
+			Thread.sleep(this.sleep);
+			return "done";
+		}
+
+	}
+
+	public static class UpperCaseEntryTask implements Callable<String>, HazelcastInstanceAware, Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private final String mapName;
+
+		private final String key;
+
+		private transient HazelcastInstance hazelcastInstance;
+
+		public UpperCaseEntryTask(String mapName, String key) {
+			this.mapName = mapName;
+			this.key = key;
+		}
+
+		@Override
+		public void setHazelcastInstance(HazelcastInstance hazelcastInstance) {
+			this.hazelcastInstance = hazelcastInstance;
+		}
+
+		@Override
+		public String call() {
+			IMap<String, String> map = this.hazelcastInstance.getMap(this.mapName);
+			return map.get(this.key).toUpperCase();
+		}
+
+	}
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.integration.hazelcast.outbound;
+
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.IMap;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.expression.Expression;
+import org.springframework.integration.test.util.TestUtils;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.support.GenericMessage;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * @author agent
+ *
+ * @since 6.5
+ */
+@SpringJUnitConfig
+@DirtiesContext
+public class HazelcastOutboundChannelAdapterEntryProcessorParserTests {
+
+	@Autowired
+	private MessageChannel entryProcessorChannel;
+
+	@Autowired
+	private MessageChannel asyncEntryProcessorChannel;
+
+	@Autowired
+	private IMap<String, Integer> counterMap;
+
+	@Autowired
+	private EntryProcessor<?, ?, ?> incrementEntryProcessor;
+
+	@Autowired
+	@Qualifier("entryProcessorAdapter.handler")
+	private HazelcastCacheWritingMessageHandler entryProcessorHandler;
+
+	@Autowired
+	@Qualifier("asyncEntryProcessorAdapter.handler")
+	private HazelcastCacheWritingMessageHandler asyncEntryProcessorHandler;
+
+	@Test
+	public void testEntryProcessorExpression() {
+		assertThat(TestUtils.getPropertyValue(this.entryProcessorHandler, "entryProcessorExpression",
+				Expression.class).getExpressionString()).contains("IncrementEntryProcessor(payload)");
+		assertThat(TestUtils.getPropertyValue(this.entryProcessorHandler, "entryProcessor")).isNull();
+		assertThat(TestUtils.getPropertyValue(this.entryProcessorHandler, "async", Boolean.class)).isFalse();
+
+		this.entryProcessorChannel.send(new GenericMessage<>(2));
+		this.entryProcessorChannel.send(new GenericMessage<>(3));
+
+		assertThat(this.counterMap.get("counter")).isEqualTo(5);
+	}
+
+	@Test
+	public void testAsyncEntryProcessor() {
+		assertThat(TestUtils.getPropertyValue(this.asyncEntryProcessorHandler, "entryProcessor"))
+				.isSameAs(this.incrementEntryProcessor);
+		assertThat(TestUtils.getPropertyValue(this.asyncEntryProcessorHandler, "entryProcessorExpression")).isNull();
+		assertThat(TestUtils.getPropertyValue(this.asyncEntryProcessorHandler, "async", Boolean.class)).isTrue();
+
+		for (int i = 0; i < 3; i++) {
+			this.asyncEntryProcessorChannel.send(new GenericMessage<>("foo"));
+		}
+
+		await().untilAsserted(() -> assertThat(this.counterMap.get("asyncCounter")).isEqualTo(3));
+	}
+
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.integration.voldemort.jmh;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.integration.Message;
+import org.springframework.integration.message.GenericMessage;
+import org.springframework.integration.voldemort.store.VoldemortMessageStore;
+import voldemort.client.MockStoreClientFactory;
+import voldemort.client.StoreClient;
+import voldemort.serialization.ObjectSerializer;
+import voldemort.serialization.StringSerializer;
+
+/**
+ * Creates Voldemort store clients backed by the in-memory storage engine, so benchmarks measure the client
+ * side cost without any network or disk I/O.
+ *
+ * @author agent
+ * @since 1.1
+ */
+final class InMemoryStoreSupport {
+	/**
+	 * Key prefix of messages saved by {@link VoldemortMessageStore}.
+	 */
+	private static final String MESSAGE_KEY_PREFIX = "MESSAGE_";
+
+	/**
+	 * The single key under which message identifiers were tracked before version 1.1.
+	 */
+	private static final String LEGACY_MESSAGE_KEY_LIST = "MESSAGE_KEY_LIST";
+
+	/**
+	 * High enough not to fail key index updates contended by many threads.
+	 */
+	private static final int MAX_UPDATE_TRIES = 1000;
+
+	/** Prevent instantiation. */
+	private InMemoryStoreSupport() {
+		throw new AssertionError();
+	}
+
+	/**
+	 * @return Store client with string keys and Java serialized values.
+	 */
+	static StoreClient createStoreClient() {
+		final MockStoreClientFactory factory = new MockStoreClientFactory(
+				new StringSerializer(), new ObjectSerializer<Object>(), null
+		);
+		return factory.getStoreClient( "benchmark-store" );
+	}
+
+	/**
+	 * Creates message store holding given number of messages. Messages are saved directly and tracked under
+	 * the pre 1.1 single key list, so {@link VoldemortMessageStore#afterPropertiesSet()} moves them into the key
+	 * index buckets with one update per bucket. Adding a million messages one by one would take hours with
+	 * a single bucket.
+	 *
+	 * @param keyIndexBuckets Number of key index buckets.
+	 * @param size Number of messages.
+	 * @return Initialized message store.
+	 */
+	static VoldemortMessageStore createMessageStore(int keyIndexBuckets, int size) throws Exception {
+		final StoreClient client = createStoreClient();
+		final Set<Object> ids = new HashSet<Object>( size * 2 );
+		for ( int i = 0; i < size; ++i ) {
+			final Message<Integer> message = new GenericMessage<Integer>( i );
+			final String id = MESSAGE_KEY_PREFIX + message.getHeaders().getId();
+			client.put( id, message );
+			ids.add( id );
+		}
+		if ( !ids.isEmpty() ) {
+			client.put( LEGACY_MESSAGE_KEY_LIST, ids );
+		}
+		final VoldemortMessageStore messageStore = new VoldemortMessageStore( client );
+		messageStore.setKeyIndexBuckets( keyIndexBuckets );
+		messageStore.setMaxUpdateTries( MAX_UPDATE_TRIES );
+		messageStore.afterPropertiesSet();
+		return messageStore;
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.integration.voldemort.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.integration.Message;
+import org.springframework.integration.message.GenericMessage;
+import org.springframework.integration.voldemort.store.VoldemortMessageStore;
+
+/**
+ * Throughput of {@link VoldemortMessageStore} operations as the store grows from a thousand to a million
+ * messages. Every add and remove rewrites one key index bucket, so the cost grows with the bucket size;
+ * one bucket reproduces the single {@code MESSAGE_KEY_LIST} of version 1.0. All benchmark threads share
+ * the message store, the number of threads is set by {@link VoldemortBenchmarks}.
+ *
+ * @author agent
+ * @since 1.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = { "-Xms4g", "-Xmx4g" })
+public class MessageStoreBenchmark {
+	@Param({ "1000", "10000", "100000", "1000000" })
+	public int storeSize;
+
+	@Param({ "1", "64" })
+	public int keyIndexBuckets;
+
+	private VoldemortMessageStore messageStore;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		messageStore = InMemoryStoreSupport.createMessageStore( keyIndexBuckets, storeSize );
+	}
+
+	/**
+	 * Adds and removes a message, so the store size stays the same for the whole run.
+	 */
+	@Benchmark
+	public Message<?> addAndRemoveMessage() {
+		final Message<?> message = messageStore.addMessage( new GenericMessage<String>( "benchmark" ) );
+		return messageStore.removeMessage( message.getHeaders().getId() );
+	}
+
+	/**
+	 * Lists the keys of all stored messages.
+	 */
+	@Benchmark
+	public long getMessageCount() {
+		return messageStore.getMessageCount();
+	}
+}
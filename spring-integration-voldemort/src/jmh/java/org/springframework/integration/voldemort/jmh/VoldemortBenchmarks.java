@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.integration.voldemort.jmh;
+
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the Voldemort module benchmarks once per requested number of concurrent threads.
+ * <p>
+ * Arguments (both optional): a regexp selecting benchmarks and a comma separated list of thread counts,
+ * {@code 1,4,16,64} by default.
+ *
+ * @author agent
+ * @since 1.1
+ */
+public final class VoldemortBenchmarks {
+	/** Prevent instantiation. */
+	private VoldemortBenchmarks() {
+		throw new AssertionError();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		final String include = args.length > 0 ? args[0] : VoldemortBenchmarks.class.getPackage().getName() + ".*";
+		final String threads = args.length > 1 ? args[1] : "1,4,16,64";
+		for ( String count : threads.split( "," ) ) {
+			final Options options = new OptionsBuilder()
+					.include( include )
+					.threads( Integer.parseInt( count.trim() ) )
+					.build();
+			new Runner( options ).run();
+		}
+	}
+}
@@ -0,0 +1,4 @@
+/**
+ * Provides JMH benchmarks of the Voldemort components running against an in-memory store.
+ */
+package org.springframework.integration.voldemort.jmh;
@@ -60,6 +60,22 @@ public class VoldemortOutboundChannelAdapterParser extends AbstractOutboundChann
 			builder.addPropertyValue( VoldemortParserUtils.KEY_EXPRESSION_PROPERTY, expressionDef );
 		}
 		IntegrationNamespaceUtils.setValueIfAttributeDefined( builder, element, VoldemortParserUtils.PERSIST_MODE );
+		IntegrationNamespaceUtils.setValueIfAttributeDefined( builder, element, VoldemortParserUtils.BATCH_SIZE );
+		IntegrationNamespaceUtils.setValueIfAttributeDefined( builder, element, VoldemortParserUtils.BATCH_TIMEOUT );
+		IntegrationNamespaceUtils.setValueIfAttributeDefined( builder, element, VoldemortParserUtils.CONCURRENCY );
+		IntegrationNamespaceUtils.setReferenceIfAttributeDefined( builder, element, VoldemortParserUtils.TASK_EXECUTOR );
+		final boolean hasMergeExpression = element.hasAttribute( VoldemortParserUtils.MERGE_EXPRESSION );
+		if ( hasMergeExpression && element.hasAttribute( VoldemortParserUtils.MERGE_FUNCTION ) ) {
+			parserContext.getReaderContext().error( "At most one of '" + VoldemortParserUtils.MERGE_EXPRESSION
+					+ "' or '" + VoldemortParserUtils.MERGE_FUNCTION + "' is allowed.", element );
+		}
+		if ( hasMergeExpression ) {
+			RootBeanDefinition expressionDef = new RootBeanDefinition( ExpressionFactoryBean.class );
+			expressionDef.getConstructorArgumentValues().addGenericArgumentValue( element.getAttribute( VoldemortParserUtils.MERGE_EXPRESSION ) );
+			builder.addPropertyValue( VoldemortParserUtils.MERGE_EXPRESSION_PROPERTY, expressionDef );
+		}
+		IntegrationNamespaceUtils.setReferenceIfAttributeDefined( builder, element, VoldemortParserUtils.MERGE_FUNCTION );
+		IntegrationNamespaceUtils.setValueIfAttributeDefined( builder, element, VoldemortParserUtils.MAX_UPDATE_TRIES );
 		return builder.getBeanDefinition();
 	}
 }
@@ -33,9 +33,18 @@ public final class VoldemortParserUtils {
 	static final String STORE_KEY_EXPRESSION = "store-key-expression";
 	static final String DELETE_AFTER_POLL = "delete-after-poll";
 	static final String EXTRACT_VALUE = "extract-value";
+	static final String AGGREGATE = "aggregate";
+	static final String BATCH_SIZE = "batch-size";
+	static final String BATCH_TIMEOUT = "batch-timeout";
+	static final String CONCURRENCY = "concurrency";
+	static final String TASK_EXECUTOR = "task-executor";
+	static final String MERGE_EXPRESSION = "merge-expression";
+	static final String MERGE_FUNCTION = "merge-function";
+	static final String MAX_UPDATE_TRIES = "max-update-tries";
 
 	static final String KEY_PROPERTY = "key";
 	static final String KEY_EXPRESSION_PROPERTY = "keyExpression";
+	static final String MERGE_EXPRESSION_PROPERTY = "mergeExpression";
 
 	/** Prevent instantiation. */
 	private VoldemortParserUtils() {
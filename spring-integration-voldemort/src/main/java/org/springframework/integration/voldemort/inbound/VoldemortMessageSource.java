@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2013 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,6 +15,17 @@
  */
 package org.springframework.integration.voldemort.inbound;
 
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
 import org.springframework.expression.Expression;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.integration.Message;
@@ -28,6 +39,19 @@ import voldemort.versioning.Versioned;
 
 /**
  * Voldemort polling inbound adapter implementation. Regularly tries to retrieve object with a given key.
+ * <p>
+ * If the key expression evaluates to a {@link Collection} or an array, all the keys are fetched with a single
+ * {@link StoreClient#getAll(Iterable)} call. Found entries are emitted as one message per entry on subsequent
+ * {@link #receive()} calls, or as one message with a {@link Map} of keys to values if
+ * {@link #setAggregate(boolean) aggregate} is set. To emit all the entries within a single poll, configure
+ * the poller's {@code max-messages-per-poll} accordingly.
+ * <p>
+ * With {@link #setDeleteAfterPoll(boolean) deleteAfterPoll} entries are deleted with the version they have
+ * been read with, and emitted only if the delete succeeds, so an entry modified or consumed concurrently
+ * (e.g. by a poller on another node) is not processed twice. An entry is deleted right before its message
+ * is returned from {@link #receive()}, so entries fetched but not emitted yet remain in the store and are
+ * fetched again after a restart. The delivery is at most once: an entry whose message fails downstream
+ * is not restored.
  *
  * @author Lukasz Antoniak
  * @since 1.0
@@ -37,6 +61,11 @@ public class VoldemortMessageSource extends IntegrationObjectSupport
 
 	private final StoreClient client;
 
+	/**
+	 * Entries fetched for a collection of keys, but not emitted yet.
+	 */
+	private final Queue<Map.Entry<Object, Versioned<?>>> pendingEntries = new ConcurrentLinkedQueue<Map.Entry<Object, Versioned<?>>>();
+
 	/**
 	 * Key expression which will be evaluated on every call to the {@link #receive()} method.
 	 */
@@ -44,6 +73,7 @@ public class VoldemortMessageSource extends IntegrationObjectSupport
 	private volatile StandardEvaluationContext evaluationContext;
 	private volatile boolean extractValue = true;
 	private volatile boolean deleteAfterPoll = false;
+	private volatile boolean aggregate = false;
 
 	/**
 	 * Creates new message source.
@@ -68,18 +98,91 @@ public class VoldemortMessageSource extends IntegrationObjectSupport
 	@Override
 	@SuppressWarnings("unchecked")
 	public Message<Object> receive() {
+		final Message<Object> pendingMessage = receivePending();
+		if ( pendingMessage != null ) {
+			return pendingMessage;
+		}
 		final Object key = keyExpression.getValue( evaluationContext, Object.class );
+		if ( key instanceof Collection ) {
+			return receiveAll( (Collection<Object>) key );
+		}
+		else if ( key instanceof Object[] ) {
+			return receiveAll( Arrays.asList( (Object[]) key ) );
+		}
 		final Versioned<?> value = client.get( key );
 		if ( value != null ) {
-			if ( deleteAfterPoll ) {
-				client.delete( key );
+			return toMessage( key, value );
+		}
+		return null;
+	}
+
+	/**
+	 * Fetches all the given keys in one round trip. Returns one message with all found entries if
+	 * {@link #setAggregate(boolean) aggregate} is set, otherwise queues found entries and returns
+	 * message of the first one.
+	 *
+	 * @param keys Keys to retrieve.
+	 * @return Message or {@code null} if no entry has been found.
+	 */
+	@SuppressWarnings("unchecked")
+	private Message<Object> receiveAll(Collection<Object> keys) {
+		final Map<Object, Versioned<?>> values = client.getAll( keys );
+		if ( aggregate ) {
+			final Map<Object, Object> found = new LinkedHashMap<Object, Object>();
+			for ( Object key : keys ) {
+				final Versioned<?> value = values.get( key );
+				if ( value == null || found.containsKey( key ) ) {
+					continue;
+				}
+				if ( deleteAfterPoll && !client.delete( key, value.getVersion() ) ) {
+					continue;
+				}
+				found.put( key, extractValue ? value.getValue() : value );
+			}
+			if ( found.isEmpty() ) {
+				return null;
+			}
+			return MessageBuilder.withPayload( (Object) found )
+					.setHeader( VoldemortHeaders.KEY, new ArrayList<Object>( found.keySet() ) ).build();
+		}
+		final Set<Object> queued = new HashSet<Object>();
+		for ( Object key : keys ) {
+			final Versioned<?> value = values.get( key );
+			if ( value != null && queued.add( key ) ) {
+				pendingEntries.add( new AbstractMap.SimpleImmutableEntry<Object, Versioned<?>>( key, value ) );
+			}
+		}
+		return receivePending();
+	}
+
+	/**
+	 * @return Message of the first queued entry which has not been consumed concurrently, or {@code null}.
+	 */
+	private Message<Object> receivePending() {
+		Map.Entry<Object, Versioned<?>> entry;
+		while ( ( entry = pendingEntries.poll() ) != null ) {
+			final Message<Object> message = toMessage( entry.getKey(), entry.getValue() );
+			if ( message != null ) {
+				return message;
 			}
-			return MessageBuilder.withPayload( extractValue ? value.getValue() : value )
-					.setHeader(VoldemortHeaders.KEY, key ).build();
 		}
 		return null;
 	}
 
+	/**
+	 * @param key Entry key.
+	 * @param value Entry value.
+	 * @return Message of the entry, or {@code null} if the entry should be deleted, but has been modified
+	 *         or deleted concurrently.
+	 */
+	private Message<Object> toMessage(Object key, Versioned<?> value) {
+		if ( deleteAfterPoll && !client.delete( key, value.getVersion() ) ) {
+			return null;
+		}
+		return MessageBuilder.withPayload( extractValue ? value.getValue() : value )
+				.setHeader( VoldemortHeaders.KEY, key ).build();
+	}
+
 	@Override
 	public String getComponentType() {
 		return "voldemort:inbound-channel-adapter";
@@ -100,4 +203,16 @@ public class VoldemortMessageSource extends IntegrationObjectSupport
 	public void setExtractValue(boolean extractValue) {
 		this.extractValue = extractValue;
 	}
+
+	/**
+	 * Whether entries found for a collection of keys are emitted as one message with a {@link Map}
+	 * of keys to values (and the list of found keys in {@link VoldemortHeaders#KEY} header), or as one
+	 * message per entry. Defaults to {@code false} - one message per entry.
+	 *
+	 * @param aggregate {@code true} to emit one message for all found entries.
+	 * @since 1.1
+	 */
+	public void setAggregate(boolean aggregate) {
+		this.aggregate = aggregate;
+	}
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2013 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,26 +15,128 @@
  */
 package org.springframework.integration.voldemort.outbound;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.expression.Expression;
 import org.springframework.expression.common.LiteralExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.integration.Message;
+import org.springframework.integration.MessageHandlingException;
+import org.springframework.integration.MessagingException;
 import org.springframework.integration.expression.ExpressionUtils;
 import org.springframework.integration.handler.AbstractMessageHandler;
+import org.springframework.integration.voldemort.support.MergeFunction;
 import org.springframework.integration.voldemort.support.PersistMode;
 import org.springframework.integration.voldemort.support.VoldemortHeaders;
+import org.springframework.scheduling.support.TaskUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ErrorHandler;
 import voldemort.client.StoreClient;
+import voldemort.client.UpdateAction;
+import voldemort.versioning.ObsoleteVersionException;
+import voldemort.versioning.Versioned;
 
 /**
  * Voldemort outbound adapter implementation.
+ * <p>
+ * By default every message is written with a blocking {@code put} or {@code delete} call. When
+ * {@link #setBatchSize(int) batchSize} is greater than 1, writes are accumulated in a window keyed by
+ * the store key, where the last write of a key wins, and flushed when the window is full, on
+ * {@link #setBatchTimeout(long) batchTimeout} or on {@link #flush()}. Flushed windows are handed over
+ * to the provided {@link #setTaskExecutor(Executor) taskExecutor}, so the sending thread does not wait
+ * for Voldemort. A single writer task writes the windows one after another in the order they have been
+ * flushed, and entries of a window are written by up to {@link #setConcurrency(int) concurrency} tasks,
+ * so a single slow Voldemort node does not serialize the whole window. Without a task executor windows
+ * are written by the sending thread.
+ * <p>
+ * In the {@link PersistMode#MERGE} mode the current {@link Versioned} value of the key is read, the new value
+ * is computed by the {@link #setMergeFunction(MergeFunction) mergeFunction} or the
+ * {@link #setMergeExpression(Expression) mergeExpression} and written with the read version. A concurrent
+ * modification of the key is detected by Voldemort and the merge is retried with the fresh value, up to
+ * {@link #setMaxUpdateTries(int) maxUpdateTries} attempts. Merges are always applied immediately, after
+ * all the pending write windows have been written.
  *
  * @author Lukasz Antoniak
  * @since 1.0
  */
-public class VoldemortStoringMessageHandler extends AbstractMessageHandler {
+public class VoldemortStoringMessageHandler extends AbstractMessageHandler implements DisposableBean {
+	/**
+	 * Placeholder of a pending delete in the write window.
+	 */
+	private static final Object DELETE = new Object();
+
 	private final StoreClient client;
 
+	private final Object batchMonitor = new Object();
+	private final Lock writerLock = new ReentrantLock();
+	private final AtomicBoolean writerScheduled = new AtomicBoolean();
+	private final Runnable windowWriter = new Runnable() {
+		public void run() {
+			try {
+				writeWindows();
+			}
+			finally {
+				writerScheduled.set( false );
+			}
+			synchronized ( batchMonitor ) {
+				if ( windows.isEmpty() ) {
+					return;
+				}
+			}
+			scheduleWriter();
+		}
+	};
+
+	private final AtomicLong batchCount = new AtomicLong();
+	private final AtomicLong writeCount = new AtomicLong();
+	private final AtomicLong failedWriteCount = new AtomicLong();
+	private final AtomicLong mergeCount = new AtomicLong();
+	private final AtomicLong conflictCount = new AtomicLong();
+	private final AtomicLong retryCount = new AtomicLong();
+	private final AtomicLong failedMergeCount = new AtomicLong();
+
+	private volatile int batchSize = 1;
+	private volatile long batchTimeout;
+	private volatile int concurrency = 1;
+	private volatile Executor taskExecutor;
+	private volatile ErrorHandler errorHandler = TaskUtils.LOG_AND_SUPPRESS_ERROR_HANDLER;
+	private volatile MergeFunction mergeFunction;
+	private volatile Expression mergeExpression;
+	private volatile int maxUpdateTries = 10;
+
+	private Map<Object, Object> batch = new LinkedHashMap<Object, Object>();
+	/**
+	 * Detached windows waiting to be written in the order of detaching, guarded by {@link #batchMonitor}.
+	 */
+	private final Queue<Map<Object, Object>> windows = new LinkedList<Map<Object, Object>>();
+	/**
+	 * Sequence number of the next detached window, guarded by {@link #batchMonitor}.
+	 */
+	private long nextWindow;
+	/**
+	 * Number of completely written windows, guarded by {@link #batchMonitor}.
+	 */
+	private long currentWindow;
+	private volatile ScheduledFuture<?> flushTask;
+	private volatile long lastBatchDuration;
+	private volatile long maxBatchDuration;
+
 	private volatile StandardEvaluationContext evaluationContext;
 	private volatile Expression keyExpression = new SpelExpressionParser().parseExpression( "headers." + VoldemortHeaders.KEY );
 
@@ -58,13 +160,42 @@ public class VoldemortStoringMessageHandler extends AbstractMessageHandler {
 		else {
 			evaluationContext = ExpressionUtils.createStandardEvaluationContext();
 		}
+		Assert.state( concurrency == 1 || taskExecutor != null, "'taskExecutor' is required when 'concurrency' is greater than 1." );
+		Assert.state( mergeFunction == null || mergeExpression == null, "At most one of 'mergeFunction' or 'mergeExpression' is allowed." );
+		if ( mergeExpression != null ) {
+			mergeFunction = new ExpressionMergeFunction( mergeExpression, evaluationContext );
+		}
+		Assert.state( persistMode != PersistMode.MERGE || mergeFunction != null,
+				"'mergeFunction' or 'mergeExpression' is required for the MERGE persist mode." );
+		if ( batchSize > 1 && batchTimeout > 0 ) {
+			flushTask = getTaskScheduler().scheduleWithFixedDelay( new Runnable() {
+				public void run() {
+					detachBatch();
+					scheduleWriter();
+				}
+			}, batchTimeout );
+		}
 	}
 
 	@Override
 	@SuppressWarnings("unchecked")
 	protected void handleMessageInternal(Message<?> message) throws Exception {
 		final Object key = keyExpression.getValue( evaluationContext, message, Object.class );
-		switch ( determinePersistMode( message ) ) {
+		final PersistMode mode = determinePersistMode( message );
+		if ( mode == PersistMode.MERGE ) {
+			if ( batchSize > 1 ) {
+				// Pending writes are older than the merge, so they have to be applied first, including
+				// the windows already detached by other senders and not written yet.
+				flush();
+			}
+			merge( key, message );
+			return;
+		}
+		if ( batchSize > 1 ) {
+			addToBatch( key, mode == PersistMode.DELETE ? DELETE : message.getPayload() );
+			return;
+		}
+		switch ( mode ) {
 			case PUT:
 				client.put( key, message.getPayload() );
 				break;
@@ -74,6 +205,213 @@ public class VoldemortStoringMessageHandler extends AbstractMessageHandler {
 		}
 	}
 
+	private void merge(Object key, Message<?> message) {
+		Assert.state( mergeFunction != null, "'mergeFunction' or 'mergeExpression' is required for the MERGE persist mode." );
+		try {
+			client.applyUpdate( new MergeUpdateAction( key, message ), maxUpdateTries );
+			mergeCount.incrementAndGet();
+		}
+		catch ( ObsoleteVersionException e ) {
+			conflictCount.incrementAndGet();
+			failedMergeCount.incrementAndGet();
+			throw new MessageHandlingException( message, "Failed to merge value with key [" + key
+					+ "] after " + maxUpdateTries + " attempts due to concurrent modifications.", e );
+		}
+	}
+
+	private void addToBatch(Object key, Object value) {
+		boolean full = false;
+		synchronized ( batchMonitor ) {
+			batch.put( key, value );
+			if ( batch.size() >= batchSize ) {
+				detachBatch();
+				full = true;
+			}
+		}
+		if ( full ) {
+			scheduleWriter();
+		}
+	}
+
+	/**
+	 * Write all the accumulated entries to Voldemort store. Waits until all the windows flushed before have
+	 * been written as well.
+	 *
+	 * @since 1.1
+	 */
+	public void flush() {
+		final long window = detachBatch();
+		scheduleWriter();
+		synchronized ( batchMonitor ) {
+			while ( currentWindow < window ) {
+				try {
+					batchMonitor.wait();
+				}
+				catch ( InterruptedException e ) {
+					Thread.currentThread().interrupt();
+					throw new MessagingException( "Interrupted while waiting for pending writes to Voldemort store.", e );
+				}
+			}
+		}
+	}
+
+	/**
+	 * Detach the current window, if not empty, to the queue of windows to be written.
+	 *
+	 * @return Sequence number of the next window, i.e. number of windows detached so far.
+	 */
+	private long detachBatch() {
+		synchronized ( batchMonitor ) {
+			if ( !batch.isEmpty() ) {
+				windows.add( batch );
+				batch = new LinkedHashMap<Object, Object>();
+				nextWindow++;
+			}
+			return nextWindow;
+		}
+	}
+
+	/**
+	 * Hand detached windows over to the writer task. Only one writer task is scheduled at a time, so windows are
+	 * written strictly in the order they have been detached and an older value of a key never overwrites a newer one.
+	 */
+	private void scheduleWriter() {
+		final Executor executor = taskExecutor;
+		if ( executor == null ) {
+			writeWindows();
+		}
+		else if ( writerScheduled.compareAndSet( false, true ) ) {
+			try {
+				executor.execute( windowWriter );
+			}
+			catch ( RejectedExecutionException e ) {
+				// The windows are already detached, so they must not be lost.
+				windowWriter.run();
+			}
+		}
+	}
+
+	private void writeWindows() {
+		writerLock.lock();
+		try {
+			Map<Object, Object> entries;
+			while ( true ) {
+				synchronized ( batchMonitor ) {
+					entries = windows.poll();
+				}
+				if ( entries == null ) {
+					return;
+				}
+				writeBatch( entries );
+			}
+		}
+		finally {
+			writerLock.unlock();
+		}
+	}
+
+	/**
+	 * Write entries of a detached window in up to {@link #concurrency} chunks. The writer writes chunks not yet
+	 * taken by the executor tasks itself, and the window is completed only after every chunk has been written.
+	 *
+	 * @param entries Entries of the window.
+	 */
+	private void writeBatch(Map<Object, Object> entries) {
+		final List<Map.Entry<Object, Object>> writes = new ArrayList<Map.Entry<Object, Object>>( entries.entrySet() );
+		final int chunkSize = ( writes.size() + concurrency - 1 ) / concurrency;
+		final Queue<List<Map.Entry<Object, Object>>> chunks = new ConcurrentLinkedQueue<List<Map.Entry<Object, Object>>>();
+		for ( int i = 0; i < writes.size(); i += chunkSize ) {
+			chunks.add( writes.subList( i, Math.min( i + chunkSize, writes.size() ) ) );
+		}
+		final int count = chunks.size();
+		final CountDownLatch latch = new CountDownLatch( count );
+		final long start = System.currentTimeMillis();
+		try {
+			for ( int i = 1; i < count; ++i ) {
+				try {
+					taskExecutor.execute( new Runnable() {
+						public void run() {
+							writeChunks( chunks, latch );
+						}
+					} );
+				}
+				catch ( RejectedExecutionException e ) {
+					// Remaining chunks are written by the writer.
+					break;
+				}
+			}
+			writeChunks( chunks, latch );
+		}
+		finally {
+			boolean interrupted = false;
+			while ( true ) {
+				try {
+					latch.await();
+					break;
+				}
+				catch ( InterruptedException e ) {
+					// The window must be completely written before the next one starts.
+					interrupted = true;
+				}
+			}
+			final long duration = System.currentTimeMillis() - start;
+			batchCount.incrementAndGet();
+			lastBatchDuration = duration;
+			if ( duration > maxBatchDuration ) {
+				maxBatchDuration = duration;
+			}
+			synchronized ( batchMonitor ) {
+				currentWindow++;
+				batchMonitor.notifyAll();
+			}
+			if ( interrupted ) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private void writeChunks(Queue<List<Map.Entry<Object, Object>>> chunks, CountDownLatch latch) {
+		List<Map.Entry<Object, Object>> chunk;
+		while ( ( chunk = chunks.poll() ) != null ) {
+			try {
+				writeAll( chunk );
+			}
+			finally {
+				latch.countDown();
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void writeAll(List<Map.Entry<Object, Object>> entries) {
+		for ( Map.Entry<Object, Object> entry : entries ) {
+			try {
+				if ( entry.getValue() == DELETE ) {
+					client.delete( entry.getKey() );
+				}
+				else {
+					client.put( entry.getKey(), entry.getValue() );
+				}
+				writeCount.incrementAndGet();
+			}
+			catch ( RuntimeException e ) {
+				failedWriteCount.incrementAndGet();
+				errorHandler.handleError( new MessagingException(
+						"Failed to write entry with key [" + entry.getKey() + "] to Voldemort store.", e ) );
+			}
+		}
+	}
+
+	@Override
+	public void destroy() {
+		final ScheduledFuture<?> task = flushTask;
+		if ( task != null ) {
+			task.cancel( false );
+			flushTask = null;
+		}
+		flush();
+	}
+
 	/**
 	 * Computes desired persist mode for a given message. Default output adapter's configuration
 	 * can be overridden with {@link VoldemortHeaders#PERSIST_MODE} message header which supports
@@ -109,4 +447,228 @@ public class VoldemortStoringMessageHandler extends AbstractMessageHandler {
 	public void setPersistMode(PersistMode persistMode) {
 		this.persistMode = persistMode;
 	}
+
+	/**
+	 * Set the max number of entries accumulated before writing them to Voldemort store.
+	 * Defaults to 1 - every message is written immediately.
+	 *
+	 * @param batchSize Write window size.
+	 * @since 1.1
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue( batchSize > 0, "'batchSize' must be greater than 0." );
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Set the period in milliseconds to flush not full write window. Applied only if
+	 * {@link #setBatchSize(int) batchSize} is greater than 1. Not set by default.
+	 *
+	 * @param batchTimeout Flush period in milliseconds.
+	 * @since 1.1
+	 */
+	public void setBatchTimeout(long batchTimeout) {
+		this.batchTimeout = batchTimeout;
+	}
+
+	/**
+	 * Set the max number of tasks writing entries of a flushed window in parallel.
+	 * Requires {@link #setTaskExecutor(Executor) taskExecutor} if greater than 1. Defaults to 1.
+	 *
+	 * @param concurrency Max number of parallel writers.
+	 * @since 1.1
+	 */
+	public void setConcurrency(int concurrency) {
+		Assert.isTrue( concurrency > 0, "'concurrency' must be greater than 0." );
+		this.concurrency = concurrency;
+	}
+
+	/**
+	 * Set the {@link Executor} to write flushed windows on, so the sending thread does not wait for Voldemort.
+	 * Windows and chunks rejected by the executor are written by the rejected caller.
+	 *
+	 * @param taskExecutor Executor for writes of flushed windows.
+	 * @since 1.1
+	 */
+	public void setTaskExecutor(Executor taskExecutor) {
+		this.taskExecutor = taskExecutor;
+	}
+
+	/**
+	 * Set {@link ErrorHandler} for failed writes of a flushed window.
+	 * Defaults to logging the error.
+	 *
+	 * @param errorHandler Error handler.
+	 * @since 1.1
+	 */
+	public void setErrorHandler(ErrorHandler errorHandler) {
+		Assert.notNull( errorHandler, "'errorHandler' must not be null." );
+		this.errorHandler = errorHandler;
+	}
+
+	/**
+	 * @return Number of flushed write windows.
+	 * @since 1.1
+	 */
+	public long getBatchCount() {
+		return batchCount.get();
+	}
+
+	/**
+	 * @return Number of entries successfully written from flushed windows.
+	 * @since 1.1
+	 */
+	public long getWriteCount() {
+		return writeCount.get();
+	}
+
+	/**
+	 * @return Number of entries failed to be written from flushed windows.
+	 * @since 1.1
+	 */
+	public long getFailedWriteCount() {
+		return failedWriteCount.get();
+	}
+
+	/**
+	 * @return Duration of the last window flush in milliseconds.
+	 * @since 1.1
+	 */
+	public long getLastBatchDuration() {
+		return lastBatchDuration;
+	}
+
+	/**
+	 * @return Max duration of a window flush in milliseconds.
+	 * @since 1.1
+	 */
+	public long getMaxBatchDuration() {
+		return maxBatchDuration;
+	}
+
+	/**
+	 * Set {@link MergeFunction} computing new value in the {@link PersistMode#MERGE} mode.
+	 * Mutually exclusive with {@link #setMergeExpression(Expression)}.
+	 *
+	 * @param mergeFunction Merge function.
+	 * @since 1.1
+	 */
+	public void setMergeFunction(MergeFunction mergeFunction) {
+		this.mergeFunction = mergeFunction;
+	}
+
+	/**
+	 * Set SpEL expression computing new value in the {@link PersistMode#MERGE} mode. The expression is
+	 * evaluated against the message with the current value (or {@code null}) as the {@code #current} variable,
+	 * e.g. {@code #current == null ? payload : #current + payload}.
+	 * Mutually exclusive with {@link #setMergeFunction(MergeFunction)}.
+	 *
+	 * @param mergeExpression Merge expression.
+	 * @since 1.1
+	 */
+	public void setMergeExpression(Expression mergeExpression) {
+		this.mergeExpression = mergeExpression;
+	}
+
+	/**
+	 * Set the max number of attempts to merge value of a concurrently modified key. Defaults to 10.
+	 *
+	 * @param maxUpdateTries Max number of merge attempts.
+	 * @since 1.1
+	 */
+	public void setMaxUpdateTries(int maxUpdateTries) {
+		Assert.isTrue( maxUpdateTries > 0, "'maxUpdateTries' must be greater than 0." );
+		this.maxUpdateTries = maxUpdateTries;
+	}
+
+	/**
+	 * @return Number of successfully merged values.
+	 * @since 1.1
+	 */
+	public long getMergeCount() {
+		return mergeCount.get();
+	}
+
+	/**
+	 * @return Number of concurrent modifications detected while merging values.
+	 * @since 1.1
+	 */
+	public long getConflictCount() {
+		return conflictCount.get();
+	}
+
+	/**
+	 * @return Number of merge attempts retried due to concurrent modifications.
+	 * @since 1.1
+	 */
+	public long getRetryCount() {
+		return retryCount.get();
+	}
+
+	/**
+	 * @return Number of merges abandoned after exceeding max number of attempts.
+	 * @since 1.1
+	 */
+	public long getFailedMergeCount() {
+		return failedMergeCount.get();
+	}
+
+	/**
+	 * Voldemort update action that merges message with the current value of the key.
+	 */
+	private final class MergeUpdateAction extends UpdateAction {
+		private final Object key;
+		private final Message<?> message;
+		private int attempts;
+
+		private MergeUpdateAction(Object key, Message<?> message) {
+			this.key = key;
+			this.message = message;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public void update(StoreClient storeClient) {
+			if ( attempts++ > 0 ) {
+				// Previous attempt failed with ObsoleteVersionException.
+				conflictCount.incrementAndGet();
+				retryCount.incrementAndGet();
+			}
+			final Versioned current = storeClient.get( key );
+			final Object merged = mergeFunction.merge( current != null ? current.getValue() : null, message );
+			if ( merged == null ) {
+				return;
+			}
+			if ( current == null ) {
+				storeClient.put( key, new Versioned( merged ) );
+			}
+			else {
+				current.setObject( merged );
+				storeClient.put( key, current );
+			}
+		}
+	}
+
+	/**
+	 * {@link MergeFunction} evaluating SpEL expression with the current value as {@code #current} variable.
+	 */
+	private static final class ExpressionMergeFunction implements MergeFunction {
+		private final Expression expression;
+		private final StandardEvaluationContext evaluationContext;
+
+		private ExpressionMergeFunction(Expression expression, StandardEvaluationContext evaluationContext) {
+			this.expression = expression;
+			this.evaluationContext = evaluationContext;
+		}
+
+		public Object merge(Object current, Message<?> message) {
+			// Variables are not thread safe, so every evaluation gets own context.
+			final StandardEvaluationContext context = new StandardEvaluationContext( message );
+			context.setBeanResolver( evaluationContext.getBeanResolver() );
+			context.setTypeConverter( evaluationContext.getTypeConverter() );
+			context.setTypeLocator( evaluationContext.getTypeLocator() );
+			context.setVariable( "current", current );
+			return expression.getValue( context );
+		}
+	}
 }
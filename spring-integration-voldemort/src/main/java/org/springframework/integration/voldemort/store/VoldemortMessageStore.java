@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2013 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,19 +15,29 @@
  */
 package org.springframework.integration.voldemort.store;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.locks.Lock;
 
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.integration.Message;
 import org.springframework.integration.store.AbstractKeyValueMessageStore;
+import org.springframework.integration.store.MessageGroup;
+import org.springframework.integration.store.MessageGroupMetadata;
 import org.springframework.integration.store.MessageGroupStore;
 import org.springframework.integration.store.MessageStore;
-import org.springframework.integration.util.DefaultLockRegistry;
+import org.springframework.integration.store.SimpleMessageGroup;
 import org.springframework.integration.util.LockRegistry;
-import org.springframework.integration.util.UUIDConverter;
+import org.springframework.util.Assert;
 import voldemort.client.StoreClient;
 import voldemort.client.UpdateAction;
 import voldemort.serialization.SerializationException;
@@ -36,6 +46,17 @@ import voldemort.versioning.Versioned;
 /**
  * Voldemort implementation of the key-value style {@link MessageStore} and {@link MessageGroupStore}.
  * Implementation note: message identifiers are persisted as {@link String}s.
+ * <p>
+ * Since Voldemort does not provide API to list keys, identifiers of all stored messages and message groups
+ * are tracked in a sharded key index: a number of bucket keys (see {@link #setKeyIndexBuckets(int)}), each
+ * holding a small set of identifiers with the same hash. Store and remove operations rewrite only
+ * a single bucket, and the keys listing reads all the buckets with one {@link StoreClient#getAll(Iterable)} call.
+ * Concurrent bucket updates rely on Voldemort vector clock optimistic concurrency and are retried
+ * by {@link StoreClient#applyUpdate(UpdateAction, int)}, so no JVM wide locks are involved. If the bucket
+ * update still fails (e.g. after {@link #setMaxUpdateTries(int) maxUpdateTries} attempts), the preceding message
+ * write is undone and {@link IllegalStateException} is thrown. Should the undo fail as well, the message store
+ * and the key index drift apart: a stored message not listed by the key index, or a listed identifier of
+ * a removed message.
  *
  * @author Lukasz Antoniak
  * @since 1.0
@@ -43,33 +64,141 @@ import voldemort.versioning.Versioned;
 @SuppressWarnings("unchecked")
 public class VoldemortMessageStore extends AbstractKeyValueMessageStore implements InitializingBean {
 	/**
-	 * Key under which message store tracks all currently saved message identifiers.
+	 * Key prefix of the buckets under which message store tracks all currently saved message identifiers.
+	 * Before version 1.1 the identifiers were saved under this single key.
 	 */
 	protected static final String MESSAGE_KEY_LIST = "MESSAGE_KEY_LIST";
 
 	/**
-	 * Key under which message store tracks all currently saved message group identifiers.
+	 * Key prefix of the buckets under which message store tracks all currently saved message group identifiers.
+	 * Before version 1.1 the identifiers were saved under this single key.
 	 */
 	protected static final String MESSAGE_GROUP_KEY_LIST = "MESSAGE_GROUP_KEY_LIST";
 
-	private static final LockRegistry LOCK_REGISTRY = new DefaultLockRegistry();
+	/**
+	 * Default number of key index buckets.
+	 */
+	public static final int DEFAULT_KEY_INDEX_BUCKETS = 64;
+
+	/**
+	 * Default number of attempts to update a key index bucket on concurrent modification.
+	 */
+	public static final int DEFAULT_MAX_UPDATE_TRIES = 10;
+
+	/**
+	 * Default max number of keys fetched with a single {@link StoreClient#getAll(Iterable)} call.
+	 */
+	public static final int DEFAULT_GET_ALL_CHUNK_SIZE = 100;
 
 	private final StoreClient client;
 
+	private int keyIndexBuckets = DEFAULT_KEY_INDEX_BUCKETS;
+
+	private int maxUpdateTries = DEFAULT_MAX_UPDATE_TRIES;
+
+	private LockRegistry lockRegistry;
+
+	private int getAllChunkSize = DEFAULT_GET_ALL_CHUNK_SIZE;
+
+	private String[] messageKeyBuckets;
+
+	private String[] messageGroupKeyBuckets;
+
 	public VoldemortMessageStore(StoreClient client) {
 		this.client = client;
 	}
 
+	/**
+	 * Set the number of buckets message and message group identifiers are spread over. All message stores
+	 * sharing the same Voldemort store have to use the same value. Defaults to {@link #DEFAULT_KEY_INDEX_BUCKETS}.
+	 *
+	 * @param keyIndexBuckets Number of key index buckets.
+	 * @since 1.1
+	 */
+	public void setKeyIndexBuckets(int keyIndexBuckets) {
+		Assert.isTrue( keyIndexBuckets > 0, "'keyIndexBuckets' must be greater than 0." );
+		this.keyIndexBuckets = keyIndexBuckets;
+	}
+
+	/**
+	 * Key index buckets are updated with Voldemort optimistic concurrency: a concurrent modification
+	 * detected by the vector clock causes the update to be retried with the fresh bucket content.
+	 * Set the max number of attempts. Defaults to {@link #DEFAULT_MAX_UPDATE_TRIES}.
+	 *
+	 * @param maxUpdateTries Max number of attempts to update a key index bucket.
+	 * @since 1.1
+	 */
+	public void setMaxUpdateTries(int maxUpdateTries) {
+		Assert.isTrue( maxUpdateTries > 0, "'maxUpdateTries' must be greater than 0." );
+		this.maxUpdateTries = maxUpdateTries;
+	}
+
+	/**
+	 * Set {@link LockRegistry} to serialize updates of the same key index bucket in addition to
+	 * the optimistic concurrency, e.g. to avoid retries under heavy contention of a single JVM.
+	 * Not set by default.
+	 *
+	 * @param lockRegistry Lock registry keyed by bucket key.
+	 * @since 1.1
+	 */
+	public void setLockRegistry(LockRegistry lockRegistry) {
+		this.lockRegistry = lockRegistry;
+	}
+
+	/**
+	 * Messages of a group are fetched with {@link StoreClient#getAll(Iterable)} calls of up to this number
+	 * of keys each. Defaults to {@link #DEFAULT_GET_ALL_CHUNK_SIZE}.
+	 *
+	 * @param getAllChunkSize Max number of keys fetched with a single call.
+	 * @since 1.1
+	 */
+	public void setGetAllChunkSize(int getAllChunkSize) {
+		Assert.isTrue( getAllChunkSize > 0, "'getAllChunkSize' must be greater than 0." );
+		this.getAllChunkSize = getAllChunkSize;
+	}
+
 	@Override
 	public void afterPropertiesSet() throws Exception {
-		// Initialize empty set of message and message group identifiers if needed.
-		synchronized ( getClass() ) {
-			if ( client.get( MESSAGE_KEY_LIST ) == null ) {
-				client.put( MESSAGE_KEY_LIST, new HashSet<Object>() );
+		messageKeyBuckets = createBucketKeys( MESSAGE_KEY_LIST );
+		messageGroupKeyBuckets = createBucketKeys( MESSAGE_GROUP_KEY_LIST );
+		// Move identifiers tracked under the single key by previous versions into the buckets.
+		migrateKeyList( MESSAGE_KEY_LIST, messageKeyBuckets );
+		migrateKeyList( MESSAGE_GROUP_KEY_LIST, messageGroupKeyBuckets );
+	}
+
+	private String[] createBucketKeys(String keyListKey) {
+		final String[] bucketKeys = new String[keyIndexBuckets];
+		for ( int i = 0; i < keyIndexBuckets; i++ ) {
+			bucketKeys[i] = keyListKey + "_" + i;
+		}
+		return bucketKeys;
+	}
+
+	/**
+	 * Move identifiers of the legacy single key list into the buckets. The legacy key is deleted only
+	 * with the version it has been read with, so identifiers added concurrently by a node of a previous
+	 * version are not lost: the migration is repeated on the fresh content instead.
+	 */
+	private void migrateKeyList(String keyListKey, String[] bucketKeys) {
+		Versioned keyList = client.get( keyListKey );
+		while ( keyList != null ) {
+			final Map<String, Set<Object>> bucketIds = new HashMap<String, Set<Object>>();
+			for ( Object id : (Set<Object>) keyList.getValue() ) {
+				final String bucketKey = bucketKeys[bucketIndex( id, bucketKeys.length )];
+				Set<Object> ids = bucketIds.get( bucketKey );
+				if ( ids == null ) {
+					ids = new HashSet<Object>();
+					bucketIds.put( bucketKey, ids );
+				}
+				ids.add( id );
+			}
+			for ( Map.Entry<String, Set<Object>> entry : bucketIds.entrySet() ) {
+				updateKeyIndex( entry.getKey(), new AddKeyUpdateAction( entry.getValue(), entry.getKey() ) );
 			}
-			if ( client.get( MESSAGE_GROUP_KEY_LIST ) == null ) {
-				client.put( MESSAGE_GROUP_KEY_LIST, new HashSet<Object>() );
+			if ( client.delete( keyListKey, keyList.getVersion() ) ) {
+				return;
 			}
+			keyList = client.get( keyListKey );
 		}
 	}
 
@@ -82,75 +211,173 @@ public class VoldemortMessageStore extends AbstractKeyValueMessageStore implemen
 		return null;
 	}
 
+	/**
+	 * Retrieve message group with its messages fetched in chunks by {@link StoreClient#getAll(Iterable)}
+	 * instead of one round trip per message. Messages missing in the store are skipped.
+	 */
+	@Override
+	public MessageGroup getMessageGroup(Object groupId) {
+		Assert.notNull( groupId, "'groupId' must not be null" );
+		final Object metadata = doRetrieve( MESSAGE_GROUP_KEY_PREFIX + groupId );
+		if ( metadata == null ) {
+			return new SimpleMessageGroup( groupId );
+		}
+		Assert.isInstanceOf( MessageGroupMetadata.class, metadata );
+		final MessageGroupMetadata messageGroupMetadata = (MessageGroupMetadata) metadata;
+		final List<Object> messageKeys = new ArrayList<Object>();
+		final Iterator<UUID> messageIds = messageGroupMetadata.messageIdIterator();
+		while ( messageIds.hasNext() ) {
+			messageKeys.add( MESSAGE_KEY_PREFIX + messageIds.next() );
+		}
+		final List<Message<?>> messages = new ArrayList<Message<?>>( messageKeys.size() );
+		for ( Object message : doRetrieveAll( messageKeys ) ) {
+			Assert.isInstanceOf( Message.class, message );
+			messages.add( (Message<?>) message );
+		}
+		final SimpleMessageGroup messageGroup = new SimpleMessageGroup( messages, groupId,
+				messageGroupMetadata.getTimestamp(), messageGroupMetadata.isComplete() );
+		messageGroup.setLastModified( messageGroupMetadata.getLastModified() );
+		messageGroup.setLastReleasedMessageSequenceNumber( messageGroupMetadata.getLastReleasedMessageSequenceNumber() );
+		return messageGroup;
+	}
+
+	/**
+	 * @param ids Identifiers of objects to retrieve.
+	 * @return Found objects in the order of given identifiers.
+	 */
+	private List<Object> doRetrieveAll(List<Object> ids) {
+		final List<Object> result = new ArrayList<Object>( ids.size() );
+		for ( int from = 0; from < ids.size(); from += getAllChunkSize ) {
+			final List<Object> chunk = ids.subList( from, Math.min( from + getAllChunkSize, ids.size() ) );
+			final Map<Object, Versioned> values = client.getAll( chunk );
+			for ( Object id : chunk ) {
+				final Versioned value = values.get( id );
+				if ( value != null ) {
+					result.add( value.getValue() );
+				}
+			}
+		}
+		return result;
+	}
+
 	@Override
 	protected void doStore(final Object id, final Object objectToStore) {
-		final Lock messageLock = doLock( id );
 		try {
 			client.put( id, objectToStore );
-			// Keeping track of stored message identifiers for efficient implementation of #doListKeys(String) method.
-			// Voldemort does not provide API to list all keys matching specified pattern.
-			final String keyListKey = computeKeyListKey( id );
-			final Lock keyListLock = doLock( keyListKey );
-			try {
-				client.applyUpdate( new AddKeyUpdateAction( id, keyListKey ) );
-			}
-			finally {
-				keyListLock.unlock();
-			}
 		}
 		catch ( SerializationException e ) {
 			throw new IllegalArgumentException( "Voldemort failed to serialize message with id: " + id + ".", e );
 		}
-		finally {
-			messageLock.unlock();
+		// Keeping track of stored message identifiers for efficient implementation of #doListKeys(String) method.
+		// Voldemort does not provide API to list all keys matching specified pattern.
+		final String keyListKey = computeKeyListKey( id );
+		try {
+			updateKeyIndex( keyListKey, new AddKeyUpdateAction( Collections.singleton( id ), keyListKey ) );
+		}
+		catch ( RuntimeException e ) {
+			// Undo the write, so the store does not hold a message missing in the key index.
+			String outcome = "the object has been removed";
+			try {
+				client.delete( id );
+			}
+			catch ( RuntimeException undoFailure ) {
+				outcome = "the object could not be removed and is not listed by the key index";
+			}
+			throw new IllegalStateException( "Failed to add identifier " + id + " to the key index bucket "
+					+ keyListKey + ", " + outcome + ".", e );
 		}
 	}
 
 	@Override
 	protected Object doRemove(final Object id) {
 		final Object message = doRetrieve( id );
-		final Lock messageLock = doLock( id );
+		client.delete( id );
+		// Keeping track of stored message identifiers for efficient implementation of #doListKeys(String) method.
+		// Voldemort does not provide API to list all keys matching specified pattern.
+		final String keyListKey = computeKeyListKey( id );
 		try {
-			client.delete( id );
-			// Keeping track of stored message identifiers for efficient implementation of #doListKeys(String) method.
-			// Voldemort does not provide API to list all keys matching specified pattern.
-			final String keyListKey = computeKeyListKey( id );
-			final Lock keyListLock = doLock( keyListKey );
-			try {
-				client.applyUpdate( new RemoveKeyUpdateAction( id, keyListKey ) );
-			}
-			finally {
-				keyListLock.unlock();
+			updateKeyIndex( keyListKey, new RemoveKeyUpdateAction( Collections.singleton( id ), keyListKey ) );
+		}
+		catch ( RuntimeException e ) {
+			// Undo the delete, so the key index does not list an identifier of a removed message.
+			String outcome = "the object has been restored";
+			if ( message != null ) {
+				try {
+					client.put( id, message );
+				}
+				catch ( RuntimeException undoFailure ) {
+					outcome = "the object could not be restored and is still listed by the key index";
+				}
 			}
-			return message;
+			throw new IllegalStateException( "Failed to remove identifier " + id + " from the key index bucket "
+					+ keyListKey + ", " + outcome + ".", e );
+		}
+		return message;
+	}
+
+	/**
+	 * Apply update of the key index bucket, optionally under the lock obtained from configured
+	 * {@link LockRegistry}.
+	 *
+	 * @param keyListKey Key of the bucket.
+	 * @param action Update action.
+	 */
+	private void updateKeyIndex(String keyListKey, UpdateAction action) {
+		if ( lockRegistry == null ) {
+			client.applyUpdate( action, maxUpdateTries );
+			return;
+		}
+		final Lock lock = lockRegistry.obtain( keyListKey );
+		lock.lock();
+		try {
+			client.applyUpdate( action, maxUpdateTries );
 		}
 		finally {
-			messageLock.unlock();
+			lock.unlock();
 		}
 	}
 
 	@Override
 	protected Collection<?> doListKeys(String keyPattern) {
-		return Collections.unmodifiableSet( (Set<Object>) client.get( computeKeyListKey( keyPattern ) ).getValue() );
+		final Map<Object, Versioned> buckets = client.getAll( Arrays.asList( computeBucketKeys( keyPattern ) ) );
+		final Set<Object> keys = new HashSet<Object>();
+		for ( Versioned bucket : buckets.values() ) {
+			if ( bucket != null ) {
+				keys.addAll( (Set<Object>) bucket.getValue() );
+			}
+		}
+		return Collections.unmodifiableSet( keys );
 	}
 
 	/**
 	 * @param id Message or message group identifier. {@link String} type required.
-	 * @return Identifier under which set of all currently persisted message or message group keys is saved.
+	 * @return Key of the bucket under which the given identifier is tracked.
 	 */
 	private String computeKeyListKey(Object id) {
-		final String key = (String) id;
+		final String[] bucketKeys = computeBucketKeys( (String) id );
+		return bucketKeys[bucketIndex( id, bucketKeys.length )];
+	}
+
+	/**
+	 * @param key Message or message group identifier, or key pattern.
+	 * @return Keys of all buckets under which message or message group keys are saved.
+	 */
+	private String[] computeBucketKeys(String key) {
 		if ( isMessageGroupKey( key ) ) {
-			return MESSAGE_GROUP_KEY_LIST;
+			return messageGroupKeyBuckets;
 		}
 		else if ( isMessageKey( key ) ) {
-			return MESSAGE_KEY_LIST;
+			return messageKeyBuckets;
 		}
 		else {
 			throw new IllegalArgumentException("Unsupported identifier: " + key + ".");
 		}
 	}
 
+	private static int bucketIndex(Object id, int buckets) {
+		return ( id.hashCode() & Integer.MAX_VALUE ) % buckets;
+	}
+
 	/**
 	 * @param key Message or message group identifier.
 	 * @return {@code true} in case of message identifier, {@code false} otherwise.
@@ -168,66 +395,67 @@ public class VoldemortMessageStore extends AbstractKeyValueMessageStore implemen
 	}
 
 	/**
-	 * Acquire JVM wide lock on the given object.
-	 * @param obj Object.
-	 * @return Lock.
-	 */
-	private Lock doLock(Object obj) {
-		final Lock lock = LOCK_REGISTRY.obtain( UUIDConverter.getUUID( obj ).toString() );
-		lock.lock();
-		return lock;
-	}
-
-	/**
-	 * Voldemort update action that adds given key to the list of currently saved identifiers.
+	 * Voldemort update action that adds given keys to the bucket of currently saved identifiers.
 	 */
 	private static final class AddKeyUpdateAction extends UpdateAction {
-		private final Object id;
+		private final Collection<Object> ids;
 		private final String keyListKey;
 
 		/**
 		 * The only constructor.
 		 *
-		 * @param id Message or message group identifier.
-		 * @param keyListKey Key under which Voldemort stores set of all currently persisted identifiers.
+		 * @param ids Message or message group identifiers.
+		 * @param keyListKey Key of the bucket under which Voldemort stores set of currently persisted identifiers.
 		 */
-		private AddKeyUpdateAction(Object id, String keyListKey) {
-			this.id = id;
+		private AddKeyUpdateAction(Collection<Object> ids, String keyListKey) {
+			this.ids = ids;
 			this.keyListKey = keyListKey;
 		}
 
 		@Override
 		public void update(StoreClient storeClient) {
-			final Set<Object> keys = (Set<Object>) storeClient.get( keyListKey ).getValue();
-			if ( keys.add( id ) ) {
-				storeClient.put( keyListKey, keys );
+			final Versioned bucket = storeClient.get( keyListKey );
+			if ( bucket == null ) {
+				// Empty vector clock fails with ObsoleteVersionException if the bucket has been created concurrently.
+				storeClient.put( keyListKey, new Versioned( new HashSet<Object>( ids ) ) );
+				return;
+			}
+			final Set<Object> keys = (Set<Object>) bucket.getValue();
+			if ( keys.addAll( ids ) ) {
+				bucket.setObject( keys );
+				storeClient.put( keyListKey, bucket );
 			}
 		}
 	}
 
 	/**
-	 * Voldemort update action that removes given key from the list of currently saved identifiers.
+	 * Voldemort update action that removes given keys from the bucket of currently saved identifiers.
 	 */
 	private static final class RemoveKeyUpdateAction extends UpdateAction {
-		private final Object id;
+		private final Collection<Object> ids;
 		private final String keyListKey;
 
 		/**
 		 * The only constructor.
 		 *
-		 * @param id Message or message group identifier.
-		 * @param keyListKey Key under which Voldemort stores set of all currently persisted identifiers.
+		 * @param ids Message or message group identifiers.
+		 * @param keyListKey Key of the bucket under which Voldemort stores set of currently persisted identifiers.
 		 */
-		private RemoveKeyUpdateAction(Object id, String keyListKey) {
-			this.id = id;
+		private RemoveKeyUpdateAction(Collection<Object> ids, String keyListKey) {
+			this.ids = ids;
 			this.keyListKey = keyListKey;
 		}
 
 		@Override
 		public void update(StoreClient storeClient) {
-			final Set<Object> keys = (Set<Object>) storeClient.get( keyListKey ).getValue();
-			if ( keys.remove( id ) ) {
-				storeClient.put( keyListKey, keys );
+			final Versioned bucket = storeClient.get( keyListKey );
+			if ( bucket == null ) {
+				return;
+			}
+			final Set<Object> keys = (Set<Object>) bucket.getValue();
+			if ( keys.removeAll( ids ) ) {
+				bucket.setObject( keys );
+				storeClient.put( keyListKey, bucket );
 			}
 		}
 	}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.integration.voldemort.support;
+
+import org.springframework.integration.Message;
+
+/**
+ * Computes the new value of a Voldemort record from its current value and a message
+ * in the {@link PersistMode#MERGE} mode. Can be invoked several times for the same message
+ * when the record is modified concurrently, so implementations should not have side effects.
+ *
+ * @author agent
+ * @since 1.1
+ */
+public interface MergeFunction {
+	/**
+	 * @param current Current value of the record, {@code null} if the record does not exist.
+	 * @param message Message being persisted.
+	 * @return New value of the record, or {@code null} to leave the record unchanged.
+	 */
+	Object merge(Object current, Message<?> message);
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright 2002-2013 the original author or authors.
+ * Copyright 2002-2026 the original author or authors.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,11 +16,12 @@
 package org.springframework.integration.voldemort.support;
 
 /**
- * Indicates whether records shall be added or removed from Voldemort database.
+ * Indicates whether records shall be added or removed from Voldemort database. {@link #MERGE} (since 1.1)
+ * updates the current record with a {@link MergeFunction} using Voldemort optimistic concurrency.
  *
  * @author Lukasz Antoniak
  * @since 1.0
  */
 public enum PersistMode {
-	PUT, DELETE
+	PUT, DELETE, MERGE
 }
@@ -15,14 +15,25 @@
  */
 package org.springframework.integration.voldemort.test.inbound;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
 import junit.framework.Assert;
 import org.junit.Test;
+import org.mockito.Mockito;
 import org.springframework.context.support.ClassPathXmlApplicationContext;
+import org.springframework.expression.common.LiteralExpression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.integration.Message;
 import org.springframework.integration.core.PollableChannel;
+import org.springframework.integration.voldemort.inbound.VoldemortMessageSource;
+import org.springframework.integration.voldemort.support.VoldemortHeaders;
 import org.springframework.integration.voldemort.test.BaseFunctionalTestCase;
 import org.springframework.integration.voldemort.test.domain.Person;
 import voldemort.client.StoreClient;
+import voldemort.versioning.VectorClock;
+import voldemort.versioning.Version;
 import voldemort.versioning.Versioned;
 
 /**
@@ -98,4 +109,101 @@ public class VoldemortInboundAdapterTest extends BaseFunctionalTestCase {
 
 		context.close();
 	}
+
+	@Test
+	public void testReceiveMultipleKeys() {
+		final ClassPathXmlApplicationContext context = new ClassPathXmlApplicationContext( "VoldemortInboundAdapterTest-context.xml", getClass() );
+		final StoreClient storeClient = context.getBean( "storeClient", StoreClient.class );
+		final PollableChannel inboundChannel = context.getBean( "voldemortMultiKeyChannel", PollableChannel.class );
+
+		// given
+		final Person anna = new Person( "anna", "Anna", "Antoniak" );
+		final Person jan = new Person( "jan", "Jan", "Antoniak" );
+		storeClient.put( anna.getId(), anna );
+		storeClient.put( jan.getId(), jan );
+
+		// when
+		final Message<Person> first = (Message<Person>) inboundChannel.receive( 10000 );
+		final Message<Person> second = (Message<Person>) inboundChannel.receive( 10000 );
+
+		// then
+		Assert.assertEquals( anna, first.getPayload() );
+		Assert.assertEquals( anna.getId(), first.getHeaders().get( VoldemortHeaders.KEY ) );
+		Assert.assertEquals( jan, second.getPayload() );
+		Assert.assertNull( storeClient.get( anna.getId() ) );
+		Assert.assertNull( storeClient.get( jan.getId() ) );
+
+		context.close();
+	}
+
+	@Test
+	public void testReceiveAggregate() {
+		final ClassPathXmlApplicationContext context = new ClassPathXmlApplicationContext( "VoldemortInboundAdapterTest-context.xml", getClass() );
+		final StoreClient storeClient = context.getBean( "storeClient", StoreClient.class );
+		final PollableChannel inboundChannel = context.getBean( "voldemortAggregateChannel", PollableChannel.class );
+
+		// given
+		final Person ewa = new Person( "ewa", "Ewa", "Antoniak" );
+		final Person adam = new Person( "adam", "Adam", "Antoniak" );
+		storeClient.put( ewa.getId(), ewa );
+		storeClient.put( adam.getId(), adam );
+
+		// when
+		final Message<Map<Object, Object>> received = (Message<Map<Object, Object>>) inboundChannel.receive( 10000 );
+
+		// then
+		Assert.assertEquals( 2, received.getPayload().size() );
+		Assert.assertEquals( ewa, received.getPayload().get( ewa.getId() ) );
+		Assert.assertEquals( adam, received.getPayload().get( adam.getId() ) );
+		Assert.assertEquals( Arrays.asList( ewa.getId(), adam.getId() ), received.getHeaders().get( VoldemortHeaders.KEY ) );
+
+		context.close();
+	}
+
+	@Test
+	public void testConcurrentlyModifiedEntryIsNotReceived() throws Exception {
+		final StoreClient storeClient = Mockito.mock( StoreClient.class );
+		final Versioned<Person> value = new Versioned<Person>( new Person( "marek", "Marek", "Antoniak" ), new VectorClock() );
+		Mockito.when( storeClient.get( "marek" ) ).thenReturn( value );
+		// Entry has been deleted or updated by another poller after the read.
+		Mockito.when( storeClient.delete( Mockito.eq( "marek" ), Mockito.any( Version.class ) ) ).thenReturn( false );
+
+		final VoldemortMessageSource source = new VoldemortMessageSource( storeClient );
+		source.setKeyExpression( new LiteralExpression( "marek" ) );
+		source.setDeleteAfterPoll( true );
+		source.afterPropertiesSet();
+
+		Assert.assertNull( source.receive() );
+		Mockito.verify( storeClient ).delete( "marek", value.getVersion() );
+
+		Mockito.when( storeClient.delete( Mockito.eq( "marek" ), Mockito.any( Version.class ) ) ).thenReturn( true );
+		Assert.assertEquals( value.getValue(), source.receive().getPayload() );
+	}
+
+	@Test
+	@SuppressWarnings("rawtypes")
+	public void testQueuedEntryIsDeletedWhenReceived() throws Exception {
+		final StoreClient storeClient = Mockito.mock( StoreClient.class );
+		final Versioned<Person> marek = new Versioned<Person>( new Person( "marek", "Marek", "Antoniak" ), new VectorClock() );
+		final Versioned<Person> maria = new Versioned<Person>( new Person( "maria", "Maria", "Antoniak" ), new VectorClock() );
+		final Map values = new HashMap();
+		values.put( "marek", marek );
+		values.put( "maria", maria );
+		Mockito.when( storeClient.getAll( Mockito.any( Iterable.class ) ) ).thenReturn( values );
+		Mockito.when( storeClient.delete( Mockito.any(), Mockito.any( Version.class ) ) ).thenReturn( true );
+
+		final VoldemortMessageSource source = new VoldemortMessageSource( storeClient );
+		source.setKeyExpression( new SpelExpressionParser().parseExpression( "{'marek', 'maria'}" ) );
+		source.setDeleteAfterPoll( true );
+		source.afterPropertiesSet();
+
+		Assert.assertEquals( marek.getValue(), source.receive().getPayload() );
+		Mockito.verify( storeClient ).delete( "marek", marek.getVersion() );
+		// Not emitted entry stays in the store.
+		Mockito.verify( storeClient, Mockito.never() ).delete( Mockito.eq( "maria" ), Mockito.any( Version.class ) );
+
+		Assert.assertEquals( maria.getValue(), source.receive().getPayload() );
+		Mockito.verify( storeClient ).delete( "maria", maria.getVersion() );
+		Mockito.verify( storeClient, Mockito.times( 1 ) ).getAll( Mockito.any( Iterable.class ) );
+	}
 }
@@ -15,13 +15,26 @@
  */
 package org.springframework.integration.voldemort.test.outbound;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
 import junit.framework.Assert;
 import org.junit.Test;
 import org.springframework.context.support.ClassPathXmlApplicationContext;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.integration.Message;
 import org.springframework.integration.MessageChannel;
 import org.springframework.integration.MessageDeliveryException;
 import org.springframework.integration.support.MessageBuilder;
+import org.springframework.integration.test.util.TestUtils;
+import org.springframework.integration.voldemort.outbound.VoldemortStoringMessageHandler;
 import org.springframework.integration.voldemort.support.PersistMode;
 import org.springframework.integration.voldemort.support.VoldemortHeaders;
 import org.springframework.integration.voldemort.test.BaseFunctionalTestCase;
@@ -174,4 +187,234 @@ public class VoldemortOutboundAdapterTest extends BaseFunctionalTestCase {
 
 		context.close();
 	}
+
+	@Test
+	public void testBatchWrites() {
+		final ClassPathXmlApplicationContext context = new ClassPathXmlApplicationContext( "VoldemortOutboundAdapterTest-context.xml", getClass() );
+		final StoreClient storeClient = context.getBean( "storeClient", StoreClient.class );
+		final MessageChannel voldemortBatchChannel = context.getBean( "voldemortBatchChannel", MessageChannel.class );
+		final VoldemortStoringMessageHandler handler = TestUtils.getPropertyValue(
+				context.getBean( "voldemortBatch" ), "handler", VoldemortStoringMessageHandler.class );
+
+		// given
+		final Person lukasz = new Person( "1", "Lukasz", "Antoniak" );
+		final Person tomasz = new Person( "2", "Tomasz", "Antoniak" );
+		final Person renamed = new Person( "1", "Lukasz", "Renamed" );
+		final Person other = new Person( "3", "Other", "Person" );
+
+		// when
+		voldemortBatchChannel.send( MessageBuilder.withPayload( lukasz ).build() );
+		voldemortBatchChannel.send( MessageBuilder.withPayload( tomasz ).build() );
+		voldemortBatchChannel.send( MessageBuilder.withPayload( renamed ).build() );
+
+		// then
+		// The same key is written once, so the window is not full yet.
+		Assert.assertNull( storeClient.get( lukasz.getId() ) );
+		Assert.assertEquals( 0, handler.getBatchCount() );
+
+		// when
+		voldemortBatchChannel.send( MessageBuilder.withPayload( other ).build() );
+		// The full window is written on the task executor.
+		handler.flush();
+
+		// then
+		Assert.assertEquals( renamed, storeClient.get( lukasz.getId() ).getValue() );
+		Assert.assertEquals( tomasz, storeClient.get( tomasz.getId() ).getValue() );
+		Assert.assertEquals( other, storeClient.get( other.getId() ).getValue() );
+		Assert.assertEquals( 1, handler.getBatchCount() );
+		Assert.assertEquals( 3, handler.getWriteCount() );
+		Assert.assertEquals( 0, handler.getFailedWriteCount() );
+
+		// when
+		voldemortBatchChannel.send( MessageBuilder.withPayload( tomasz )
+				.setHeader( VoldemortHeaders.PERSIST_MODE, PersistMode.DELETE ).build() );
+		handler.flush();
+
+		// then
+		Assert.assertNull( storeClient.get( tomasz.getId() ) );
+		Assert.assertEquals( 2, handler.getBatchCount() );
+
+		context.close();
+	}
+
+	@Test
+	public void testRejectedChunkIsWrittenByCaller() throws Exception {
+		final ClassPathXmlApplicationContext context = new ClassPathXmlApplicationContext( "VoldemortOutboundAdapterTest-context.xml", getClass() );
+		final StoreClient storeClient = context.getBean( "storeClient", StoreClient.class );
+
+		// given
+		final VoldemortStoringMessageHandler handler = new VoldemortStoringMessageHandler( storeClient );
+		handler.setBatchSize( 2 );
+		handler.setConcurrency( 2 );
+		handler.setTaskExecutor( new Executor() {
+			public void execute(Runnable command) {
+				throw new RejectedExecutionException( "Executor is saturated." );
+			}
+		} );
+		handler.afterPropertiesSet();
+		final Person lukasz = new Person( "1", "Lukasz", "Antoniak" );
+		final Person tomasz = new Person( "2", "Tomasz", "Antoniak" );
+
+		// when
+		handler.handleMessage( MessageBuilder.withPayload( lukasz ).setHeader( VoldemortHeaders.KEY, lukasz.getId() ).build() );
+		handler.handleMessage( MessageBuilder.withPayload( tomasz ).setHeader( VoldemortHeaders.KEY, tomasz.getId() ).build() );
+
+		// then
+		Assert.assertEquals( lukasz, storeClient.get( lukasz.getId() ).getValue() );
+		Assert.assertEquals( tomasz, storeClient.get( tomasz.getId() ).getValue() );
+		Assert.assertEquals( 2, handler.getWriteCount() );
+
+		context.close();
+	}
+
+	@Test
+	public void testFullWindowIsWrittenOnExecutor() throws Exception {
+		final ClassPathXmlApplicationContext context = new ClassPathXmlApplicationContext( "VoldemortOutboundAdapterTest-context.xml", getClass() );
+		final StoreClient storeClient = context.getBean( "storeClient", StoreClient.class );
+
+		// given
+		final List<Runnable> tasks = new ArrayList<Runnable>();
+		final VoldemortStoringMessageHandler handler = new VoldemortStoringMessageHandler( storeClient );
+		handler.setBatchSize( 2 );
+		handler.setTaskExecutor( new Executor() {
+			public void execute(Runnable command) {
+				tasks.add( command );
+			}
+		} );
+		handler.afterPropertiesSet();
+		final Person lukasz = new Person( "1", "Lukasz", "Antoniak" );
+		final Person tomasz = new Person( "2", "Tomasz", "Antoniak" );
+
+		// when
+		handler.handleMessage( MessageBuilder.withPayload( lukasz ).setHeader( VoldemortHeaders.KEY, lukasz.getId() ).build() );
+		handler.handleMessage( MessageBuilder.withPayload( tomasz ).setHeader( VoldemortHeaders.KEY, tomasz.getId() ).build() );
+
+		// then
+		// The sender returns without writing the full window.
+		Assert.assertEquals( 1, tasks.size() );
+		Assert.assertNull( storeClient.get( lukasz.getId() ) );
+		Assert.assertEquals( 0, handler.getBatchCount() );
+
+		// when
+		tasks.get( 0 ).run();
+
+		// then
+		Assert.assertEquals( lukasz, storeClient.get( lukasz.getId() ).getValue() );
+		Assert.assertEquals( tomasz, storeClient.get( tomasz.getId() ).getValue() );
+		Assert.assertEquals( 1, handler.getBatchCount() );
+
+		context.close();
+	}
+
+	@Test
+	public void testMergeFlushesPendingWrites() throws Exception {
+		final ClassPathXmlApplicationContext context = new ClassPathXmlApplicationContext( "VoldemortOutboundAdapterTest-context.xml", getClass() );
+		final StoreClient storeClient = context.getBean( "storeClient", StoreClient.class );
+
+		// given
+		final VoldemortStoringMessageHandler handler = new VoldemortStoringMessageHandler( storeClient );
+		handler.setKey( "counter" );
+		handler.setBatchSize( 10 );
+		handler.setMergeExpression( new SpelExpressionParser().parseExpression( "#current + payload" ) );
+		handler.afterPropertiesSet();
+
+		// when
+		handler.handleMessage( MessageBuilder.withPayload( 10 ).build() );
+		handler.handleMessage( MessageBuilder.withPayload( 1 ).setHeader( VoldemortHeaders.PERSIST_MODE, PersistMode.MERGE ).build() );
+		handler.flush();
+
+		// then
+		Assert.assertEquals( 11, storeClient.get( "counter" ).getValue() );
+		Assert.assertEquals( 1, handler.getMergeCount() );
+
+		context.close();
+	}
+
+	@Test
+	public void testMergeWaitsForDetachedWindows() throws Exception {
+		final ClassPathXmlApplicationContext context = new ClassPathXmlApplicationContext( "VoldemortOutboundAdapterTest-context.xml", getClass() );
+		final StoreClient storeClient = context.getBean( "storeClient", StoreClient.class );
+
+		// given
+		final List<Runnable> tasks = new ArrayList<Runnable>();
+		final VoldemortStoringMessageHandler handler = new VoldemortStoringMessageHandler( storeClient );
+		handler.setBatchSize( 2 );
+		handler.setTaskExecutor( new Executor() {
+			public void execute(Runnable command) {
+				tasks.add( command );
+			}
+		} );
+		handler.setMergeExpression( new SpelExpressionParser().parseExpression( "#current + payload" ) );
+		handler.afterPropertiesSet();
+		handler.handleMessage( MessageBuilder.withPayload( 10 ).setHeader( VoldemortHeaders.KEY, "counter" ).build() );
+		handler.handleMessage( MessageBuilder.withPayload( 1 ).setHeader( VoldemortHeaders.KEY, "other" ).build() );
+		Assert.assertEquals( 1, tasks.size() );
+
+		// when
+		final ExecutorService executorService = Executors.newSingleThreadExecutor();
+		final Future<?> merge = executorService.submit( new Callable<Object>() {
+			public Object call() throws Exception {
+				handler.handleMessage( MessageBuilder.withPayload( 1 ).setHeader( VoldemortHeaders.KEY, "counter" )
+						.setHeader( VoldemortHeaders.PERSIST_MODE, PersistMode.MERGE ).build() );
+				return null;
+			}
+		} );
+
+		// then
+		// The window detached by the previous sender is not written yet.
+		Thread.sleep( 500 );
+		Assert.assertFalse( merge.isDone() );
+		Assert.assertEquals( 0, handler.getMergeCount() );
+
+		// when
+		tasks.get( 0 ).run();
+		merge.get( 10, TimeUnit.SECONDS );
+
+		// then
+		Assert.assertEquals( 11, storeClient.get( "counter" ).getValue() );
+		Assert.assertEquals( 1, handler.getMergeCount() );
+
+		executorService.shutdown();
+		context.close();
+	}
+
+	@Test
+	public void testConcurrentMerges() throws Exception {
+		final ClassPathXmlApplicationContext context = new ClassPathXmlApplicationContext( "VoldemortOutboundAdapterTest-context.xml", getClass() );
+		final StoreClient storeClient = context.getBean( "storeClient", StoreClient.class );
+		final MessageChannel voldemortMergeChannel = context.getBean( "voldemortMergeChannel", MessageChannel.class );
+		final VoldemortStoringMessageHandler handler = TestUtils.getPropertyValue(
+				context.getBean( "voldemortMerge" ), "handler", VoldemortStoringMessageHandler.class );
+
+		// given
+		final int threads = 8;
+		final int increments = 50;
+		final ExecutorService executor = Executors.newFixedThreadPool( threads );
+
+		// when
+		// All the threads increment the same hot key.
+		final List<Future<?>> futures = new ArrayList<Future<?>>();
+		for ( int i = 0; i < threads; ++i ) {
+			futures.add( executor.submit( new Callable<Object>() {
+				public Object call() {
+					for ( int j = 0; j < increments; ++j ) {
+						voldemortMergeChannel.send( MessageBuilder.withPayload( 1 ).build() );
+					}
+					return null;
+				}
+			} ) );
+		}
+		for ( Future<?> future : futures ) {
+			future.get();
+		}
+		executor.shutdown();
+
+		// then
+		Assert.assertEquals( threads * increments, storeClient.get( "counter" ).getValue() );
+		Assert.assertEquals( threads * increments, handler.getMergeCount() );
+		Assert.assertEquals( 0, handler.getFailedMergeCount() );
+		Assert.assertEquals( handler.getRetryCount(), handler.getConflictCount() );
+
+		context.close();
+	}
 }
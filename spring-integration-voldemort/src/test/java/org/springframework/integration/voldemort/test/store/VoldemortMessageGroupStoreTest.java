@@ -15,7 +15,10 @@
  */
 package org.springframework.integration.voldemort.test.store;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Properties;
 import java.util.Random;
 import java.util.UUID;
@@ -25,6 +28,8 @@ import java.util.concurrent.TimeUnit;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
 import org.springframework.integration.Message;
 import org.springframework.integration.channel.DirectChannel;
 import org.springframework.integration.history.MessageHistory;
@@ -33,6 +38,7 @@ import org.springframework.integration.store.MessageGroup;
 import org.springframework.integration.store.SimpleMessageGroup;
 import org.springframework.integration.support.MessageBuilder;
 import org.springframework.integration.voldemort.store.VoldemortMessageStore;
+import voldemort.client.StoreClient;
 
 /**
  * Voldemort message store tests based on Redis module.
@@ -90,6 +96,44 @@ public class VoldemortMessageGroupStoreTest extends BaseStoreFunctionalTestCase
 		Assert.assertEquals( 1, messageGroup.size() );
 	}
 
+	@Test
+	public void testMessageGroupRetrievedInChunks() throws Exception {
+		for ( int i = 0; i < 25; ++i ) {
+			store.addMessageToGroup( 1, new GenericMessage<Integer>( i ) );
+		}
+		final Message<?> removedMessage = store.getMessageGroup( 1 ).getOne();
+		store.removeMessage( removedMessage.getHeaders().getId() );
+
+		// use another message store instance
+		final StoreClient client = Mockito.spy( context.getBean( "messageStoreClient", StoreClient.class ) );
+		final VoldemortMessageStore newStore = new VoldemortMessageStore( client );
+		newStore.setGetAllChunkSize( 7 );
+		newStore.afterPropertiesSet();
+		Mockito.reset( client );
+
+		final MessageGroup messageGroup = newStore.getMessageGroup( 1 );
+		Assert.assertEquals( 24, messageGroup.size() );
+		int expectedPayload = 1;
+		for ( Message<?> message : messageGroup.getMessages() ) {
+			Assert.assertEquals( expectedPayload++, message.getPayload() );
+		}
+
+		// 24 messages fetched in ceil(24 / 7) chunks, only the group metadata with a single get.
+		final ArgumentCaptor<Iterable> chunks = ArgumentCaptor.forClass( Iterable.class );
+		Mockito.verify( client, Mockito.times( 4 ) ).getAll( chunks.capture() );
+		final List<Integer> chunkSizes = new ArrayList<Integer>();
+		for ( Iterable chunk : chunks.getAllValues() ) {
+			int size = 0;
+			for ( Iterator<?> keys = chunk.iterator(); keys.hasNext(); keys.next() ) {
+				++size;
+			}
+			chunkSizes.add( size );
+		}
+		Assert.assertEquals( Arrays.asList( 7, 7, 7, 3 ), chunkSizes );
+		Mockito.verify( client ).get( "MESSAGE_GROUP_1" );
+		Mockito.verify( client, Mockito.times( 1 ) ).get( Mockito.any() );
+	}
+
 	@Test
 	public void testMessageGroupWithAddedMessageUUIDGroupIdAndUUIDHeader() {
 		final Object id = UUID.randomUUID();
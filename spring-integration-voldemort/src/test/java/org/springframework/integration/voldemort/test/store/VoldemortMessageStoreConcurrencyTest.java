@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.integration.voldemort.test.store;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.integration.Message;
+import org.springframework.integration.message.GenericMessage;
+import org.springframework.integration.util.DefaultLockRegistry;
+import org.springframework.integration.voldemort.store.VoldemortMessageStore;
+
+/**
+ * Concurrency benchmark of the message store key index: 32 writer threads, each with own message store
+ * instance, store and remove messages at the same time. Logs the achieved throughput.
+ *
+ * @author agent
+ * @since 1.1
+ */
+public class VoldemortMessageStoreConcurrencyTest extends BaseStoreFunctionalTestCase {
+	private static final Log LOG = LogFactory.getLog( VoldemortMessageStoreConcurrencyTest.class );
+
+	private static final int WRITERS = 32;
+
+	private static final int MESSAGES_PER_WRITER = 100;
+
+	@Test
+	public void testConcurrentWritersWithOptimisticUpdates() throws Exception {
+		final List<VoldemortMessageStore> stores = new ArrayList<VoldemortMessageStore>( WRITERS );
+		for ( int i = 0; i < WRITERS; ++i ) {
+			stores.add( createNewStoreClient() );
+		}
+		runWriters( "optimistic updates", stores );
+	}
+
+	@Test
+	public void testConcurrentWritersWithLockRegistry() throws Exception {
+		final DefaultLockRegistry lockRegistry = new DefaultLockRegistry();
+		final List<VoldemortMessageStore> stores = new ArrayList<VoldemortMessageStore>( WRITERS );
+		for ( int i = 0; i < WRITERS; ++i ) {
+			final VoldemortMessageStore writerStore = createNewStoreClient();
+			writerStore.setLockRegistry( lockRegistry );
+			stores.add( writerStore );
+		}
+		runWriters( "lock registry", stores );
+	}
+
+	private void runWriters(String mode, final List<VoldemortMessageStore> stores) throws InterruptedException {
+		final ExecutorService executor = Executors.newFixedThreadPool( WRITERS );
+		final CountDownLatch startLatch = new CountDownLatch( 1 );
+		final AtomicInteger errorCounter = new AtomicInteger();
+		for ( final VoldemortMessageStore writerStore : stores ) {
+			executor.execute( new Runnable() {
+				public void run() {
+					try {
+						startLatch.await();
+						for ( int i = 0; i < MESSAGES_PER_WRITER; ++i ) {
+							final Message<?> message = writerStore.addMessage( new GenericMessage<Integer>( i ) );
+							if ( i % 2 == 0 ) {
+								writerStore.removeMessage( message.getHeaders().getId() );
+							}
+						}
+					}
+					catch ( Exception e ) {
+						LOG.error( "Writer failed.", e );
+						errorCounter.incrementAndGet();
+					}
+				}
+			});
+		}
+		final long start = System.nanoTime();
+		startLatch.countDown();
+		executor.shutdown();
+		Assert.assertTrue( executor.awaitTermination( 60, TimeUnit.SECONDS ) );
+		final long elapsed = System.nanoTime() - start;
+
+		final int operations = WRITERS * MESSAGES_PER_WRITER * 3 / 2;
+		LOG.info( String.format( "%d writers with %s: %d operations in %d ms (%.0f ops/s).", WRITERS, mode,
+				operations, TimeUnit.NANOSECONDS.toMillis( elapsed ), operations * 1e9 / elapsed ) );
+
+		Assert.assertEquals( 0, errorCounter.get() );
+		Assert.assertEquals( WRITERS * MESSAGES_PER_WRITER / 2, store.getMessageCount() );
+	}
+}
@@ -16,15 +16,22 @@
 package org.springframework.integration.voldemort.test.store;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Properties;
 import java.util.UUID;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.mockito.Mockito;
 import org.springframework.integration.Message;
 import org.springframework.integration.channel.DirectChannel;
 import org.springframework.integration.history.MessageHistory;
 import org.springframework.integration.message.GenericMessage;
+import org.springframework.integration.voldemort.store.VoldemortMessageStore;
+import voldemort.client.StoreClient;
+import voldemort.client.UpdateAction;
+import voldemort.versioning.ObsoleteVersionException;
 
 /**
  * Voldemort message store tests based on Redis module.
@@ -136,6 +143,96 @@ public class VoldemortMessageStoreTest extends BaseStoreFunctionalTestCase {
 		Assert.assertEquals( "channel", fooChannelHistory.get( "type" ) );
 	}
 
+	@Test
+	public void testKeyIndexBuckets() throws Exception {
+		final StoreClient client = context.getBean( "messageStoreClient", StoreClient.class );
+		final VoldemortMessageStore bucketStore = new VoldemortMessageStore( client );
+		bucketStore.setKeyIndexBuckets( 4 );
+		bucketStore.afterPropertiesSet();
+
+		for ( int i = 0; i < 20; ++i ) {
+			bucketStore.addMessage( new GenericMessage<Integer>( i ) );
+		}
+		Assert.assertEquals( 20, bucketStore.getMessageCount() );
+
+		int usedBuckets = 0;
+		for ( int i = 0; i < 4; ++i ) {
+			if ( client.get( "MESSAGE_KEY_LIST_" + i ) != null ) {
+				++usedBuckets;
+			}
+		}
+		Assert.assertTrue( usedBuckets > 1 );
+		Assert.assertNull( client.get( "MESSAGE_KEY_LIST" ) );
+	}
+
+	@Test
+	public void testKeyListMigration() {
+		final StoreClient client = context.getBean( "messageStoreClient", StoreClient.class );
+		final Message<String> message1 = new GenericMessage<String>( "Hello Voldemort" );
+		final Message<String> message2 = new GenericMessage<String>( "Hello World" );
+		store.addMessage( message1 );
+		store.addMessage( message2 );
+		for ( int i = 0; i < VoldemortMessageStore.DEFAULT_KEY_INDEX_BUCKETS; ++i ) {
+			client.delete( "MESSAGE_KEY_LIST_" + i );
+		}
+		Assert.assertEquals( 0, store.getMessageCount() );
+
+		// Identifiers tracked under the single key by previous versions.
+		client.put( "MESSAGE_KEY_LIST", new HashSet<Object>( Arrays.asList(
+				"MESSAGE_" + message1.getHeaders().getId(), "MESSAGE_" + message2.getHeaders().getId() ) ) );
+
+		final VoldemortMessageStore newStore = createNewStoreClient();
+
+		Assert.assertEquals( 2, newStore.getMessageCount() );
+		Assert.assertNull( client.get( "MESSAGE_KEY_LIST" ) );
+	}
+
+	@Test
+	public void testMessageRemovedWhenKeyIndexUpdateFails() throws Exception {
+		final VoldemortMessageStore failingStore = createFailingKeyIndexStore();
+		final Message<String> message = new GenericMessage<String>( "Hello Voldemort" );
+
+		try {
+			failingStore.addMessage( message );
+			Assert.fail( "IllegalStateException expected." );
+		}
+		catch ( IllegalStateException e ) {
+			Assert.assertTrue( e.getCause() instanceof ObsoleteVersionException );
+		}
+
+		Assert.assertNull( store.getMessage( message.getHeaders().getId() ) );
+		Assert.assertEquals( 0, store.getMessageCount() );
+	}
+
+	@Test
+	public void testMessageRestoredWhenKeyIndexUpdateFails() throws Exception {
+		final VoldemortMessageStore failingStore = createFailingKeyIndexStore();
+		final Message<String> message = store.addMessage( new GenericMessage<String>( "Hello Voldemort" ) );
+
+		try {
+			failingStore.removeMessage( message.getHeaders().getId() );
+			Assert.fail( "IllegalStateException expected." );
+		}
+		catch ( IllegalStateException e ) {
+			Assert.assertTrue( e.getCause() instanceof ObsoleteVersionException );
+		}
+
+		Assert.assertNotNull( store.getMessage( message.getHeaders().getId() ) );
+		Assert.assertEquals( 1, store.getMessageCount() );
+	}
+
+	/**
+	 * @return Message store which fails to update the key index as after exceeding the max number of attempts.
+	 */
+	private VoldemortMessageStore createFailingKeyIndexStore() throws Exception {
+		final StoreClient client = Mockito.spy( context.getBean( "messageStoreClient", StoreClient.class ) );
+		Mockito.doThrow( new ObsoleteVersionException( "Concurrent modification." ) )
+				.when( client ).applyUpdate( Mockito.any( UpdateAction.class ), Mockito.anyInt() );
+		final VoldemortMessageStore failingStore = new VoldemortMessageStore( client );
+		failingStore.afterPropertiesSet();
+		return failingStore;
+	}
+
 	public static class Person implements Serializable {
 		private static final long serialVersionUID = 6109955909562732898L;
 